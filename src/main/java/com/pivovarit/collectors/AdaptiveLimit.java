@@ -0,0 +1,152 @@
+package com.pivovarit.collectors;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * A concurrency limit tuned at runtime from observed task latency using additive-increase/multiplicative-decrease:
+ * <ul>
+ *     <li>the limit grows by one per {@code limit} tasks completing within {@code TOLERANCE} times the baseline latency, as long as at least half of the permits are in use</li>
+ *     <li>the limit shrinks by {@code BACKOFF_RATIO} once a task takes longer than that - tasks started before the last decrease are ignored, so a single overload is acted upon once</li>
+ * </ul>
+ * The baseline is a slowly moving average of observed latencies.
+ * <p>
+ * A single instance is shared by all collections using the same {@link AdaptiveLimitExecutor}, so that the limit caps their tasks in flight
+ * altogether and carries over from one collection to the next.
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class AdaptiveLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double TOLERANCE = 2.0;
+    private static final int BASELINE_WINDOW = 100;
+
+    private final int min;
+    private final int max;
+    private final IntConsumer listener;
+    private final Semaphore permits;
+    // permits to be withheld once given back by tasks that were in flight when the limit shrank
+    private final AtomicInteger owed = new AtomicInteger();
+    // dispatch passes of collections that found no free permit, requested again once one is given back
+    private final Set<Runnable> waiters = ConcurrentHashMap.newKeySet();
+
+    // guarded by this
+    private double estimate;
+    private int limit;
+    private double baseline;
+    private long lastDecrease;
+
+    AdaptiveLimit(int min, int max, IntConsumer listener) {
+        this.min = min;
+        this.max = max;
+        this.listener = listener;
+        this.permits = new Semaphore(max);
+        this.estimate = max;
+        this.limit = max;
+        this.lastDecrease = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    /**
+     * Acquires a permit if one is free, otherwise {@code onAvailable} gets called once a permit might be free again
+     */
+    boolean tryAcquire(Runnable onAvailable) {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        waiters.add(onAvailable);
+        // a permit might have been given back before registering
+        return permits.tryAcquire();
+    }
+
+    void release() {
+        if (!repay()) {
+            permits.release();
+        }
+        notifyWaiters();
+    }
+
+    /**
+     * @return {@code true} if a permit given back was withheld to make up for a shrunk limit
+     */
+    private boolean repay() {
+        int debt;
+        do {
+            debt = owed.get();
+            if (debt == 0) {
+                return false;
+            }
+        } while (!owed.compareAndSet(debt, debt - 1));
+        return true;
+    }
+
+    private void notifyWaiters() {
+        for (Runnable waiter : waiters) {
+            if (waiters.remove(waiter)) {
+                waiter.run();
+            }
+        }
+    }
+
+    /**
+     * Exposed for tests only - users observe the limit through the listener
+     */
+    synchronized int limit() {
+        return limit;
+    }
+
+    /**
+     * Records the latency of a task still holding its permit
+     */
+    void onSample(long startNanos, long endNanos) {
+        boolean increased;
+        synchronized (this) {
+            long latency = endNanos - startNanos;
+            baseline = baseline == 0 ? latency : baseline + (latency - baseline) / BASELINE_WINDOW;
+
+            if (latency > baseline * TOLERANCE) {
+                if (startNanos - lastDecrease < 0) {
+                    return;
+                }
+                estimate = Math.max(min, estimate * BACKOFF_RATIO);
+                lastDecrease = endNanos;
+            } else if ((limit + owed.get() - permits.availablePermits()) * 2 >= limit) {
+                estimate = Math.min(max, estimate + 1.0 / limit);
+            }
+
+            int updated = (int) estimate;
+            increased = updated > limit;
+            if (increased) {
+                for (int i = limit; i < updated; i++) {
+                    if (!repay()) {
+                        permits.release();
+                    }
+                }
+            } else if (updated < limit) {
+                // tasks in flight keep running, no new ones are started until enough of them complete
+                owed.addAndGet(limit - updated);
+                while (permits.tryAcquire()) {
+                    if (!repay()) {
+                        permits.release();
+                        break;
+                    }
+                }
+            }
+            if (updated != limit) {
+                limit = updated;
+                listener.accept(updated);
+            }
+        }
+        if (increased) {
+            // outside of the lock, since waiters might dispatch tasks right away
+            notifyWaiters();
+        }
+    }
+}
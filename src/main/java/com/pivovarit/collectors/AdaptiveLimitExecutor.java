@@ -0,0 +1,47 @@
+package com.pivovarit.collectors;
+
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link Executor} marker instructing parallel collectors to tune their parallelism at runtime - see {@link AdaptiveLimit}
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class AdaptiveLimitExecutor extends MarkerExecutor {
+
+    private final AdaptiveLimit limit;
+
+    private AdaptiveLimitExecutor(Executor delegate, AdaptiveLimit limit) {
+        super(delegate);
+        this.limit = limit;
+    }
+
+    static Executor of(Executor executor, int minParallelism, int maxParallelism, IntConsumer listener) {
+        requireNonNull(executor, "executor can't be null");
+        requireNonNull(listener, "listener can't be null");
+        if (minParallelism < 1) {
+            throw new IllegalArgumentException("Min parallelism can't be lower than 1");
+        }
+        if (maxParallelism < minParallelism) {
+            throw new IllegalArgumentException("Max parallelism can't be lower than min parallelism");
+        }
+
+        return new AdaptiveLimitExecutor(executor, new AdaptiveLimit(minParallelism, maxParallelism, listener));
+    }
+
+    @Override
+    Executor withDelegate(Executor delegate) {
+        return new AdaptiveLimitExecutor(delegate, limit);
+    }
+
+    /**
+     * The limit is shared by all collections using this instance - each of them is additionally capped by its own parallelism level
+     */
+    @Override
+    void configure(Dispatcher.Options options) {
+        options.adaptiveLimit(limit);
+    }
+}
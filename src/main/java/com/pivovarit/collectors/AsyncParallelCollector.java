@@ -1,20 +1,33 @@
 package com.pivovarit.collectors;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static com.pivovarit.collectors.BatchingSpliterator.batching;
-import static com.pivovarit.collectors.BatchingSpliterator.partitioned;
+import static com.pivovarit.collectors.ChunkingCollector.chunked;
+import static com.pivovarit.collectors.ChunkingCollector.requireValidBatchDelay;
+import static com.pivovarit.collectors.ChunkingCollector.requireValidBatchSize;
 import static com.pivovarit.collectors.Dispatcher.getDefaultParallelism;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.allOf;
@@ -31,14 +44,25 @@ final class AsyncParallelCollector<T, R, C>
     private final Dispatcher<R> dispatcher;
     private final Function<T, R> mapper;
     private final Function<Stream<R>, C> processor;
+    // null when timed out tasks fail the whole collection
+    private final Function<T, R> fallback;
 
     private AsyncParallelCollector(
       Function<T, R> mapper,
       Dispatcher<R> dispatcher,
+      Function<Stream<R>, C> processor) {
+        this(mapper, null, dispatcher, processor);
+    }
+
+    private AsyncParallelCollector(
+      Function<T, R> mapper,
+      Function<T, R> fallback,
+      Dispatcher<R> dispatcher,
       Function<Stream<R>, C> processor) {
         this.dispatcher = dispatcher;
         this.processor = processor;
         this.mapper = mapper;
+        this.fallback = fallback;
     }
 
     @Override
@@ -59,7 +83,9 @@ final class AsyncParallelCollector<T, R, C>
             if (!dispatcher.isRunning()) {
                 dispatcher.start();
             }
-            acc.add(dispatcher.enqueue(() -> mapper.apply(e)));
+            acc.add(fallback == null
+              ? dispatcher.enqueue(() -> mapper.apply(e))
+              : dispatcher.enqueue(() -> mapper.apply(e), () -> fallback.apply(e)));
         };
     }
 
@@ -68,7 +94,7 @@ final class AsyncParallelCollector<T, R, C>
         return futures -> {
             dispatcher.stop();
 
-            return combine(futures.build()).thenApply(processor);
+            return dispatcher.bounding(combine(futures.build()).thenApply(processor));
         };
     }
 
@@ -77,7 +103,7 @@ final class AsyncParallelCollector<T, R, C>
         return Collections.emptySet();
     }
 
-    private static <T> CompletableFuture<Stream<T>> combine(Stream<CompletableFuture<T>> futures) {
+    static <T> CompletableFuture<Stream<T>> combine(Stream<CompletableFuture<T>> futures) {
         CompletableFuture<T>[] futuresArray = (CompletableFuture<T>[]) futures.toArray(CompletableFuture[]::new);
         CompletableFuture<Stream<T>> combined = allOf(futuresArray)
           .thenApply(__ -> Arrays.stream(futuresArray).map(CompletableFuture::join));
@@ -101,7 +127,7 @@ final class AsyncParallelCollector<T, R, C>
         requireNonNull(mapper, "mapper can't be null");
         requireValidParallelism(parallelism);
 
-        return parallelism == 1
+        return parallelism == 1 && Dispatcher.isBypassable(executor)
           ? asyncCollector(mapper, executor, i -> i)
           : new AsyncParallelCollector<>(mapper, Dispatcher.of(executor, parallelism), t -> t);
     }
@@ -116,11 +142,51 @@ final class AsyncParallelCollector<T, R, C>
         requireNonNull(mapper, "mapper can't be null");
         requireValidParallelism(parallelism);
 
-        return parallelism == 1
+        return parallelism == 1 && Dispatcher.isBypassable(executor)
           ? asyncCollector(mapper, executor, s -> s.collect(collector))
           : new AsyncParallelCollector<>(mapper, Dispatcher.of(executor, parallelism), s -> s.collect(collector));
     }
 
+    static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> collectingWithCollector(Collector<R, ?, RR> collector, Function<T, R> mapper, Executor executor, int parallelism, Duration taskTimeout) {
+        requireNonNull(taskTimeout, "taskTimeout can't be null");
+
+        return timeLimited(collector, mapper, null, executor, parallelism, taskTimeout, null);
+    }
+
+    static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> collectingWithCollector(Collector<R, ?, RR> collector, Function<T, R> mapper, Executor executor, int parallelism, Duration taskTimeout, Function<T, R> fallback) {
+        requireNonNull(taskTimeout, "taskTimeout can't be null");
+        requireNonNull(fallback, "fallback can't be null");
+
+        return timeLimited(collector, mapper, fallback, executor, parallelism, taskTimeout, null);
+    }
+
+    static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> collectingWithCollector(Collector<R, ?, RR> collector, Function<T, R> mapper, Executor executor, int parallelism, Duration taskTimeout, Duration collectionTimeout) {
+        requireNonNull(taskTimeout, "taskTimeout can't be null");
+        requireNonNull(collectionTimeout, "collectionTimeout can't be null");
+
+        return timeLimited(collector, mapper, null, executor, parallelism, taskTimeout, collectionTimeout);
+    }
+
+    private static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> timeLimited(Collector<R, ?, RR> collector, Function<T, R> mapper, Function<T, R> fallback, Executor executor, int parallelism, Duration taskTimeout, Duration collectionTimeout) {
+        requireNonNull(collector, "collector can't be null");
+        requireNonNull(executor, "executor can't be null");
+        requireNonNull(mapper, "mapper can't be null");
+        requireValidParallelism(parallelism);
+        requireValidTimeout(taskTimeout, "Task timeout");
+        if (collectionTimeout != null) {
+            requireValidTimeout(collectionTimeout, "Collection timeout");
+        }
+
+        // timeouts are enforced by the dispatcher, so there's no shortcut for parallelism == 1
+        return new AsyncParallelCollector<>(mapper, fallback, Dispatcher.withTimeouts(executor, parallelism, taskTimeout, collectionTimeout), s -> s.collect(collector));
+    }
+
+    static void requireValidTimeout(Duration timeout, String name) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException(name + " needs to be positive");
+        }
+    }
+
     static void requireValidParallelism(int parallelism) {
         if (parallelism < 1) {
             throw new IllegalArgumentException("Parallelism can't be lower than 1");
@@ -148,7 +214,7 @@ final class AsyncParallelCollector<T, R, C>
             requireNonNull(mapper, "mapper can't be null");
             requireValidParallelism(parallelism);
 
-            return parallelism == 1
+            return parallelism == 1 && Dispatcher.isBypassable(executor)
               ? asyncCollector(mapper, executor, s -> s.collect(collector))
               : batchingCollector(mapper, executor, parallelism, s -> s.collect(collector));
         }
@@ -160,30 +226,213 @@ final class AsyncParallelCollector<T, R, C>
             requireNonNull(mapper, "mapper can't be null");
             requireValidParallelism(parallelism);
 
-            return parallelism == 1
+            return parallelism == 1 && Dispatcher.isBypassable(executor)
               ? asyncCollector(mapper, executor, i -> i)
               : batchingCollector(mapper, executor, parallelism, s -> s);
         }
 
-        private static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> batchingCollector(Function<T, R> mapper, Executor executor, int parallelism, Function<Stream<R>, RR> finisher) {
+        static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> collectingWithCollector(Collector<R, ?, RR> collector, Function<T, R> mapper, Executor executor, int parallelism, int batchSize) {
+            requireNonNull(collector, "collector can't be null");
+
+            return streamingBatchingCollector(mapper, executor, parallelism, batchSize, null, s -> s.collect(collector));
+        }
+
+        static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> collectingToStream(Function<T, R> mapper, Executor executor, int parallelism, int batchSize) {
+            return streamingBatchingCollector(mapper, executor, parallelism, batchSize, null, s -> s);
+        }
+
+        static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> collectingWithCollector(Collector<R, ?, RR> collector, Function<T, R> mapper, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay) {
+            requireNonNull(collector, "collector can't be null");
+            requireNonNull(maxBatchDelay, "maxBatchDelay can't be null");
+            requireValidBatchDelay(maxBatchDelay);
+
+            return streamingBatchingCollector(mapper, executor, parallelism, batchSize, maxBatchDelay, s -> s.collect(collector));
+        }
+
+        static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> collectingToStream(Function<T, R> mapper, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay) {
+            requireNonNull(maxBatchDelay, "maxBatchDelay can't be null");
+            requireValidBatchDelay(maxBatchDelay);
+
+            return streamingBatchingCollector(mapper, executor, parallelism, batchSize, maxBatchDelay, s -> s);
+        }
+
+        static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> collectingWithCollectorAdaptively(Collector<R, ?, RR> collector, Function<T, R> mapper, Executor executor, int parallelism) {
+            requireNonNull(collector, "collector can't be null");
+            requireNonNull(executor, "executor can't be null");
+            requireNonNull(mapper, "mapper can't be null");
+            requireValidParallelism(parallelism);
+
+            return parallelism == 1 && Dispatcher.isBypassable(executor)
+              ? asyncCollector(mapper, executor, s -> s.collect(collector))
+              : adaptiveBatchingCollector(mapper, executor, parallelism, s -> s.collect(collector));
+        }
+
+        static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> collectingToStreamAdaptively(Function<T, R> mapper, Executor executor, int parallelism) {
+            requireNonNull(executor, "executor can't be null");
+            requireNonNull(mapper, "mapper can't be null");
+            requireValidParallelism(parallelism);
+
+            return parallelism == 1 && Dispatcher.isBypassable(executor)
+              ? asyncCollector(mapper, executor, i -> i)
+              : adaptiveBatchingCollector(mapper, executor, parallelism, s -> s);
+        }
+
+        static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> collectingWithCollectorCombining(Collector<R, ?, RR> collector, Function<T, R> mapper, Executor executor, int parallelism) {
+            requireNonNull(collector, "collector can't be null");
+            requireNonNull(executor, "executor can't be null");
+            requireNonNull(mapper, "mapper can't be null");
+            requireValidParallelism(parallelism);
+
+            return combiningBatchingCollector(collector, mapper, executor, parallelism);
+        }
+
+        /**
+         * Each of {@code parallelism} contiguous ranges is reduced into its own partial container by a single task,
+         * and partial containers are merged in encounter order using the downstream combiner
+         */
+        private static <T, R, A, RR> Collector<T, ?, CompletableFuture<RR>> combiningBatchingCollector(Collector<R, A, RR> collector, Function<T, R> mapper, Executor executor, int parallelism) {
+            Supplier<A> supplier = collector.supplier();
+            BiConsumer<A, R> accumulator = collector.accumulator();
+            BinaryOperator<A> combiner = collector.combiner();
+            Function<A, RR> finisher = collector.finisher();
+
+            return collectingAndThen(
+              toList(),
+              list -> {
+                  int size = list.size();
+                  int batches = Math.min(parallelism, size);
+                  return IntStream.range(0, batches).boxed()
+                    .collect(new AsyncParallelCollector<>(
+                      batch -> {
+                          A partial = supplier.get();
+                          for (int i = (int) ((long) size * batch / batches), to = (int) ((long) size * (batch + 1) / batches); i < to; i++) {
+                              accumulator.accept(partial, mapper.apply(list.get(i)));
+                          }
+                          return partial;
+                      },
+                      Dispatcher.of(executor, parallelism),
+                      partials -> finisher.apply(partials.reduce(combiner).orElseGet(supplier))));
+              });
+        }
+
+        static <T> Collector<T, ?, CompletableFuture<IntStream>> collectingToIntStream(ToIntFunction<T> mapper, Executor executor, int parallelism) {
+            requireNonNull(mapper, "mapper can't be null");
+
+            return rangeBatchingCollector(executor, parallelism, int[]::new,
+              (source, results) -> i -> results[i] = mapper.applyAsInt(source.get(i)),
+              Arrays::stream);
+        }
+
+        static <T> Collector<T, ?, CompletableFuture<LongStream>> collectingToLongStream(ToLongFunction<T> mapper, Executor executor, int parallelism) {
+            requireNonNull(mapper, "mapper can't be null");
+
+            return rangeBatchingCollector(executor, parallelism, long[]::new,
+              (source, results) -> i -> results[i] = mapper.applyAsLong(source.get(i)),
+              Arrays::stream);
+        }
+
+        static <T> Collector<T, ?, CompletableFuture<DoubleStream>> collectingToDoubleStream(ToDoubleFunction<T> mapper, Executor executor, int parallelism) {
+            requireNonNull(mapper, "mapper can't be null");
+
+            return rangeBatchingCollector(executor, parallelism, double[]::new,
+              (source, results) -> i -> results[i] = mapper.applyAsDouble(source.get(i)),
+              Arrays::stream);
+        }
+
+        static <T, R> Collector<T, ?, CompletableFuture<List<R>>> collectingToList(Function<T, R> mapper, Executor executor, int parallelism) {
+            requireNonNull(mapper, "mapper can't be null");
+
+            return rangeBatchingCollector(executor, parallelism, Object[]::new,
+              (source, results) -> i -> results[i] = mapper.apply(source.get(i)),
+              AsyncParallelCollector::asList);
+        }
+
+        static <T, R> Collector<T, ?, CompletableFuture<List<CompletableFuture<R>>>> collectingToOutcomes(Function<T, R> mapper, Executor executor, int parallelism) {
+            requireNonNull(mapper, "mapper can't be null");
+
+            return rangeBatchingCollector(executor, parallelism, Object[]::new,
+              (source, results) -> i -> results[i] = outcome(mapper, source.get(i)),
+              AsyncParallelCollector::asList);
+        }
+
+        /**
+         * Captures the failure of a single element, so that the remaining elements of its batch are still processed
+         */
+        private static <T, R> CompletableFuture<R> outcome(Function<T, R> mapper, T element) {
+            CompletableFuture<R> outcome = new CompletableFuture<>();
+            try {
+                outcome.complete(mapper.apply(element));
+            } catch (Throwable e) {
+                outcome.completeExceptionally(e);
+            }
+            return outcome;
+        }
+
+        /**
+         * Splits the input into {@code parallelism} contiguous ranges, each of them processed by a single task writing
+         * results straight into its slice of a shared preallocated array - no per-element boxing, futures or intermediate lists are involved
+         */
+        private static <T, B, S> Collector<T, ?, CompletableFuture<S>> rangeBatchingCollector(Executor executor, int parallelism, IntFunction<B> bufferFactory, BiFunction<List<T>, B, IntConsumer> writer, Function<B, S> finisher) {
+            requireNonNull(executor, "executor can't be null");
+            requireValidParallelism(parallelism);
+
+            return collectingAndThen(
+              toList(),
+              list -> {
+                  int size = list.size();
+                  B results = bufferFactory.apply(size);
+                  IntConsumer write = writer.apply(list, results);
+                  int batches = Math.min(parallelism, size);
+                  return IntStream.range(0, batches).boxed()
+                    .collect(new AsyncParallelCollector<>(
+                      batch -> {
+                          for (int i = (int) ((long) size * batch / batches), to = (int) ((long) size * (batch + 1) / batches); i < to; i++) {
+                              write.accept(i);
+                          }
+                          return null;
+                      },
+                      // a duplicate attempt would keep writing into the buffer even after the collection completed
+                      Dispatcher.withoutRepeats(executor, parallelism),
+                      __ -> finisher.apply(results)));
+              });
+        }
+
+        private static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> adaptiveBatchingCollector(Function<T, R> mapper, Executor executor, int parallelism, Function<Stream<R>, RR> finisher) {
             return collectingAndThen(
               toList(),
               list -> {
-                  // no sense to repack into batches of size 1
-                  if (list.size() == parallelism) {
-                      return list.stream()
-                        .collect(new AsyncParallelCollector<>(
-                          mapper,
-                          Dispatcher.of(executor, parallelism),
-                          finisher));
-                  } else {
-                      return partitioned(list, parallelism)
-                        .collect(new AsyncParallelCollector<>(
-                          batching(mapper),
-                          Dispatcher.of(executor, parallelism),
-                          listStream -> finisher.apply(listStream.flatMap(Collection::stream))));
-                  }
+                  int workers = Math.min(parallelism, list.size());
+                  GuidedBatching<T, R> batching = new GuidedBatching<>(list, mapper, workers);
+                  return IntStream.range(0, workers).boxed()
+                    .collect(new AsyncParallelCollector<>(
+                      __ -> batching.process(),
+                      Dispatcher.withoutRepeats(executor, parallelism),
+                      __ -> finisher.apply(batching.results().stream())));
               });
         }
+
+        private static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> streamingBatchingCollector(Function<T, R> mapper, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay, Function<Stream<R>, RR> finisher) {
+            requireNonNull(executor, "executor can't be null");
+            requireNonNull(mapper, "mapper can't be null");
+            requireValidParallelism(parallelism);
+            requireValidBatchSize(batchSize);
+
+            return chunked(new AsyncParallelCollector<>(
+              batching(mapper),
+              Dispatcher.of(executor, parallelism),
+              listStream -> finisher.apply(listStream.flatMap(Collection::stream))), batchSize, maxBatchDelay);
+        }
+
+        private static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> batchingCollector(Function<T, R> mapper, Executor executor, int parallelism, Function<Stream<R>, RR> finisher) {
+            return rangeBatchingCollector(executor, parallelism, Object[]::new,
+              (source, results) -> i -> results[i] = mapper.apply(source.get(i)),
+              results -> finisher.apply(AsyncParallelCollector.<R>asList(results).stream()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> asList(Object[] results) {
+        // the array is only ever populated with results of the mapper
+        return (List<R>) Arrays.asList(results);
     }
 }
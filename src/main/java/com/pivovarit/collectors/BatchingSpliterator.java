@@ -79,6 +79,23 @@ final class BatchingSpliterator<T> implements Spliterator<List<T>> {
         }
     }
 
+    @Override
+    public void forEachRemaining(Consumer<? super List<T>> action) {
+        int size = source.size();
+        int from = consumed;
+        int remainingChunks = chunks;
+        int nextChunkSize = chunkSize;
+        while (from < size && remainingChunks != 0) {
+            int to = from + nextChunkSize;
+            action.accept(source.subList(from, to));
+            from = to;
+            nextChunkSize = (int) Math.ceil(((double) (size - from)) / --remainingChunks);
+        }
+        consumed = from;
+        chunks = remainingChunks;
+        chunkSize = nextChunkSize;
+    }
+
     @Override
     public Spliterator<List<T>> trySplit() {
         return null;
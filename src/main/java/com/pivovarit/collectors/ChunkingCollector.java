@@ -0,0 +1,136 @@
+package com.pivovarit.collectors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A {@link Collector} adapter grouping incoming elements into batches and passing them downstream as soon as they're formed,
+ * instead of materializing the whole input first.
+ * <p>
+ * A batch is passed downstream once it reaches {@code batchSize} elements or, if {@code maxBatchDelay} is provided,
+ * once {@code maxBatchDelay} elapses since its first element arrived.
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class ChunkingCollector<T, A, R> implements Collector<T, ChunkingCollector.Chunks<T, A>, R> {
+
+    private final Collector<List<T>, A, R> downstream;
+    private final int batchSize;
+    private final Duration maxBatchDelay;
+
+    private ChunkingCollector(Collector<List<T>, A, R> downstream, int batchSize, Duration maxBatchDelay) {
+        this.downstream = downstream;
+        this.batchSize = batchSize;
+        this.maxBatchDelay = maxBatchDelay;
+    }
+
+    static <T, A, R> Collector<T, ?, R> chunked(Collector<List<T>, A, R> downstream, int batchSize, Duration maxBatchDelay) {
+        return new ChunkingCollector<>(downstream, batchSize, maxBatchDelay);
+    }
+
+    static void requireValidBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size can't be lower than 1");
+        }
+    }
+
+    static void requireValidBatchDelay(Duration maxBatchDelay) {
+        if (maxBatchDelay.isNegative() || maxBatchDelay.isZero()) {
+            throw new IllegalArgumentException("Max batch delay needs to be positive");
+        }
+    }
+
+    @Override
+    public Supplier<Chunks<T, A>> supplier() {
+        return () -> new Chunks<>(downstream.supplier().get());
+    }
+
+    @Override
+    public BiConsumer<Chunks<T, A>, T> accumulator() {
+        if (maxBatchDelay == null) {
+            return (chunks, e) -> {
+                chunks.batch.add(e);
+                if (chunks.batch.size() == batchSize) {
+                    flush(chunks);
+                }
+            };
+        }
+
+        return (chunks, e) -> {
+            synchronized (chunks) {
+                chunks.batch.add(e);
+                if (chunks.batch.size() == batchSize) {
+                    flush(chunks);
+                } else if (chunks.batch.size() == 1) {
+                    List<T> batch = chunks.batch;
+                    chunks.scheduledFlush = Scheduler.schedule(() -> flushIfPending(chunks, batch), maxBatchDelay);
+                }
+            }
+        };
+    }
+
+    @Override
+    public BinaryOperator<Chunks<T, A>> combiner() {
+        return (left, right) -> {
+            throw new UnsupportedOperationException("Using parallel stream with parallel collectors is a bad idea");
+        };
+    }
+
+    @Override
+    public Function<Chunks<T, A>, R> finisher() {
+        return chunks -> {
+            synchronized (chunks) {
+                if (!chunks.batch.isEmpty()) {
+                    flush(chunks);
+                }
+                return downstream.finisher().apply(chunks.downstream);
+            }
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        EnumSet<Characteristics> characteristics = EnumSet.noneOf(Characteristics.class);
+        if (downstream.characteristics().contains(Characteristics.UNORDERED)) {
+            characteristics.add(Characteristics.UNORDERED);
+        }
+        return characteristics;
+    }
+
+    private void flushIfPending(Chunks<T, A> chunks, List<T> batch) {
+        synchronized (chunks) {
+            if (chunks.batch == batch && !batch.isEmpty()) {
+                flush(chunks);
+            }
+        }
+    }
+
+    private void flush(Chunks<T, A> chunks) {
+        if (chunks.scheduledFlush != null) {
+            chunks.scheduledFlush.cancel(false);
+            chunks.scheduledFlush = null;
+        }
+        downstream.accumulator().accept(chunks.downstream, chunks.batch);
+        chunks.batch = new ArrayList<>();
+    }
+
+    static final class Chunks<T, A> {
+        private final A downstream;
+        private List<T> batch;
+        private ScheduledFuture<?> scheduledFlush;
+
+        private Chunks(A downstream) {
+            this.downstream = downstream;
+            this.batch = new ArrayList<>();
+        }
+    }
+}
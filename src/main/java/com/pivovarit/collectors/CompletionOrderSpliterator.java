@@ -1,10 +1,12 @@
 package com.pivovarit.collectors;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Spliterator;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -14,36 +16,91 @@ import java.util.stream.Stream;
 final class CompletionOrderSpliterator<T> implements Spliterator<T> {
 
     private final int initialSize;
-    private final BlockingQueue<CompletableFuture<T>> completed = new LinkedBlockingQueue<>();
-    private int remaining;
+
+    // futures stored at consecutive indexes in the order of their completion
+    private final AtomicReferenceArray<CompletableFuture<T>> completed;
+    private final AtomicInteger completedCount = new AtomicInteger();
+
+    private volatile Thread waiter;
+    private int consumed;
 
     CompletionOrderSpliterator(Stream<CompletableFuture<T>> futures) {
-        AtomicInteger size = new AtomicInteger();
-        futures.forEach(f -> {
-            f.whenComplete((__, ___) -> completed.add(f));
-            size.incrementAndGet();
-        });
-
-        this.initialSize = size.get();
-        this.remaining = initialSize;
+        Spliterator<CompletableFuture<T>> source = futures.spliterator();
+        long size = source.getExactSizeIfKnown();
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            // registration needs to know the number of futures upfront
+            List<CompletableFuture<T>> buffered = new ArrayList<>();
+            source.forEachRemaining(buffered::add);
+            source = buffered.spliterator();
+            size = buffered.size();
+        }
+
+        this.initialSize = (int) size;
+        this.completed = new AtomicReferenceArray<>(initialSize);
+
+        source.forEachRemaining(future -> future.whenComplete((__, ___) -> onComplete(future)));
+    }
+
+    private void onComplete(CompletableFuture<T> future) {
+        completed.set(completedCount.getAndIncrement(), future);
+        Thread consumer = waiter;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
     }
 
     @Override
     public boolean tryAdvance(Consumer<? super T> action) {
-        return remaining > 0
-          ? nextCompleted().thenAccept(action).thenApply(__ -> true).join()
-          : false;
+        if (consumed == initialSize) {
+            return false;
+        }
+
+        action.accept(nextCompleted().join());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (consumed < initialSize) {
+            // everything completed so far can be handed over without waiting
+            int available = completedCount.get();
+            if (available == consumed) {
+                action.accept(nextCompleted().join());
+                continue;
+            }
+            while (consumed < available) {
+                int next = consumed++;
+                CompletableFuture<T> future;
+                while ((future = completed.get(next)) == null) {
+                    // the slot is claimed but not published yet
+                    Thread.yield();
+                }
+                completed.lazySet(next, null);
+                action.accept(future.join());
+            }
+        }
     }
 
     private CompletableFuture<T> nextCompleted() {
-        remaining--;
-        try {
-            return completed.take();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        int next = consumed++;
+        CompletableFuture<T> future;
+        while ((future = completed.get(next)) == null) {
+            waiter = Thread.currentThread();
+            // re-check after announcing the waiter so that a concurrent completion can't be missed
+            if ((future = completed.get(next)) == null) {
+                LockSupport.park(this);
+            }
+            waiter = null;
+
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
 
-            throw new RuntimeException(e);
+                throw new RuntimeException(new InterruptedException());
+            }
         }
+        // allow consumed results to be garbage collected
+        completed.lazySet(next, null);
+        return future;
     }
 
     @Override
@@ -61,5 +118,3 @@ final class CompletionOrderSpliterator<T> implements Spliterator<T> {
         return SIZED | IMMUTABLE | NONNULL;
     }
 }
-
-
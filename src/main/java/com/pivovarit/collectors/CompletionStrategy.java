@@ -2,6 +2,7 @@ package com.pivovarit.collectors;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -12,6 +13,10 @@ interface CompletionStrategy<T> extends Function<Stream<CompletableFuture<T>>, S
     }
 
     static <R> CompletionStrategy<R> ordered() {
-        return futures -> futures.map(CompletableFuture::join);
+        return ordered(__ -> {});
+    }
+
+    static <R> CompletionStrategy<R> ordered(IntConsumer onConsumed) {
+        return futures -> StreamSupport.stream(new SubmissionOrderSpliterator<>(futures, onConsumed), false);
     }
 }
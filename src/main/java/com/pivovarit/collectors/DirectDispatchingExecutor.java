@@ -0,0 +1,37 @@
+package com.pivovarit.collectors;
+
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link Executor} marker instructing parallel collectors to hand off tasks to the wrapped {@link Executor}
+ * directly from submitting and completing threads instead of running a dedicated dispatcher thread
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class DirectDispatchingExecutor implements Executor {
+
+    private final Executor delegate;
+
+    private DirectDispatchingExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    static Executor of(Executor executor) {
+        requireNonNull(executor, "executor can't be null");
+
+        return MarkerExecutor.wrapInnermost(executor, e -> e instanceof DirectDispatchingExecutor
+          ? e
+          : new DirectDispatchingExecutor(e));
+    }
+
+    Executor delegate() {
+        return delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+}
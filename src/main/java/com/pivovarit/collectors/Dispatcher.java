@@ -1,17 +1,27 @@
 package com.pivovarit.collectors;
 
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static java.lang.Runtime.getRuntime;
@@ -23,94 +33,517 @@ final class Dispatcher<T> {
 
     private static final Runnable POISON_PILL = () -> System.out.println("Why so serious?");
 
-    private final CompletableFuture<Void> completionSignaller = new CompletableFuture<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
 
     private final BlockingQueue<Runnable> workingQueue = new LinkedBlockingQueue<>();
+    // next attempts of failed tasks, null when failed tasks aren't retried
+    private final Queue<Runnable> retried;
+    // tasks currently executed by the executor, short-circuited on failure
+    private final Set<CompletionTask> running = ConcurrentHashMap.newKeySet();
 
-    private final ExecutorService dispatcher = newLazySingleThreadExecutor();
+    // null when tasks are handed off without a dedicated dispatcher thread
+    private final ExecutorService dispatcher;
+    // null when tasks are handed off directly by submitting and completing threads
+    private final SharedDispatcher shared;
     private final Executor executor;
     private final Semaphore limiter;
+    // null when tasks can be dispatched regardless of how many results haven't been consumed yet
+    private final Semaphore lookahead;
+    // null when the dispatch rate is unlimited
+    private final RateLimiter rateLimiter;
+    // null when the number of tasks in flight is bounded by the limiter only
+    private final AdaptiveLimit adaptiveLimit;
+    // null when slow tasks aren't hedged
+    private final Hedging hedging;
+    // null when failed tasks aren't retried
+    private final RetryPolicy retryPolicy;
+    // false when a failed task doesn't affect the remaining ones
+    private final boolean failFast;
+    // null when tasks can run for as long as they need
+    private final Duration taskTimeout;
+    // null when the whole collection can take as long as it needs
+    private final Duration collectionTimeout;
+    private final AtomicInteger pendingDispatches = new AtomicInteger();
+    // requested by the adaptive limit once another collection gives a permit back
+    private final Runnable dispatchSignal = this::signalDispatch;
 
     private volatile boolean started = false;
     private volatile boolean shortCircuited = false;
+    private volatile ScheduledFuture<?> deadline;
+
+    private Dispatcher(Executor executor, int permits, Options options) {
+        // rate limits, adaptive limits, hedging and retries are enforced by the dispatcher itself, so that waiting for a permit never blocks the executor
+        while (executor instanceof MarkerExecutor) {
+            ((MarkerExecutor) executor).configure(options);
+            executor = ((MarkerExecutor) executor).delegate();
+        }
+        RetryPolicy retryPolicy = options.repeatable ? options.retryPolicy : null;
+
+        if (executor instanceof DirectDispatchingExecutor) {
+            this.executor = ((DirectDispatchingExecutor) executor).delegate();
+            this.shared = null;
+            this.dispatcher = null;
+        } else if (executor instanceof SharedDispatcher) {
+            this.executor = ((SharedDispatcher) executor).delegate();
+            this.shared = (SharedDispatcher) executor;
+            this.dispatcher = null;
+        } else {
+            this.executor = executor;
+            this.shared = null;
+            // retried tasks re-enter the queue after the dedicated thread might have already finished
+            this.dispatcher = options.dedicatedThread && retryPolicy == null ? newLazySingleThreadExecutor() : null;
+        }
 
-    private Dispatcher(Executor executor, int permits) {
-        this.executor = executor;
         this.limiter = new Semaphore(permits);
+        this.adaptiveLimit = options.adaptiveLimit;
+        this.hedging = options.repeatable ? options.hedging : null;
+        this.retryPolicy = retryPolicy;
+        this.failFast = options.failFast;
+        this.retried = retryPolicy != null ? new ConcurrentLinkedQueue<>() : null;
+        this.rateLimiter = options.rateLimiter;
+        this.lookahead = options.lookahead;
+        this.taskTimeout = options.taskTimeout;
+        this.collectionTimeout = options.collectionTimeout;
+    }
+
+    /**
+     * Checks if tasks can be handed off straight to the {@link Executor}, which isn't the case when it carries rate limits,
+     * adaptive limits, hedging, retries or a shared budget that only a {@link Dispatcher} enforces
+     */
+    static boolean isBypassable(Executor executor) {
+        if (executor instanceof DirectDispatchingExecutor) {
+            executor = ((DirectDispatchingExecutor) executor).delegate();
+        }
+
+        return !(executor instanceof MarkerExecutor || executor instanceof SharedDispatcher);
     }
 
     static <T> Dispatcher<T> of(Executor executor, int permits) {
-        return new Dispatcher<>(executor, permits);
+        return new Dispatcher<>(executor, permits, new Options());
+    }
+
+    /**
+     * Creates a {@link Dispatcher} handing off tasks directly from submitting and completing threads, for callers that bound
+     * the number of tasks in flight on their own
+     */
+    static <T> Dispatcher<T> direct(Executor executor, int permits) {
+        return new Dispatcher<>(executor, permits, new Options().withoutDedicatedThread());
+    }
+
+    /**
+     * Creates a {@link Dispatcher} which dispatches a task only if fewer than {@code maxLookahead} results of previously
+     * dispatched tasks are still waiting to be consumed - see {@link Dispatcher#consumed(int)}
+     * <p>
+     * Never uses a dedicated dispatcher thread, so that a stream abandoned by its consumer doesn't leave a blocked thread behind.
+     */
+    static <T> Dispatcher<T> withLookahead(Executor executor, int permits, int maxLookahead) {
+        return new Dispatcher<>(executor, permits, new Options().withoutDedicatedThread().lookahead(maxLookahead));
+    }
+
+    /**
+     * Creates a {@link Dispatcher} which gives up on tasks running longer than {@code taskTimeout} and on all remaining tasks
+     * once {@code collectionTimeout} elapses since the dispatcher got started - see {@link Dispatcher#enqueue(Supplier, Supplier)}
+     * <p>
+     * Either of timeouts can be null, meaning no limit.
+     */
+    static <T> Dispatcher<T> withTimeouts(Executor executor, int permits, Duration taskTimeout, Duration collectionTimeout) {
+        return new Dispatcher<>(executor, permits, new Options().timeouts(taskTimeout, collectionTimeout));
+    }
+
+    /**
+     * Creates a {@link Dispatcher} for tasks with side effects, which therefore must never be run more than once - slow tasks aren't hedged
+     * and failed tasks aren't retried
+     */
+    static <T> Dispatcher<T> withoutRepeats(Executor executor, int permits) {
+        return new Dispatcher<>(executor, permits, new Options().withoutRepeats());
+    }
+
+    /**
+     * Creates a {@link Dispatcher} which keeps processing remaining tasks after a task fails - only the future of the failed task
+     * is completed exceptionally. Failures to hand off tasks to the executor still fail all of them.
+     */
+    static <T> Dispatcher<T> collectingAllErrors(Executor executor, int permits) {
+        return new Dispatcher<>(executor, permits, new Options().collectingAllErrors());
     }
 
     void start() {
         started = true;
+        if (collectionTimeout != null) {
+            deadline = Scheduler.schedule(() -> handle(new TimeoutException("Collection timed out after " + collectionTimeout)), collectionTimeout);
+        }
+        if (dispatcher == null) {
+            return;
+        }
         dispatcher.execute(() -> {
+            Runnable task = null;
             try {
                 while (true) {
-                    Runnable task;
                     if ((task = workingQueue.take()) != POISON_PILL) {
                         limiter.acquire();
-                        executor.execute(withFinally(task, limiter::release));
+                        if (adaptiveLimit != null) {
+                            adaptiveLimit.acquire();
+                        }
+                        try {
+                            awaitToken();
+                            executor.execute(withRelease(task, sampled(limiter::release)));
+                        } catch (Throwable e) {
+                            if (adaptiveLimit != null) {
+                                adaptiveLimit.release();
+                            }
+                            throw e;
+                        }
+                        task = null;
                     } else {
                         break;
                     }
                 }
             } catch (Throwable e) {
                 handle(e);
+                shortcircuit(task);
             }
         });
     }
 
+    private void awaitToken() throws InterruptedException {
+        if (rateLimiter != null) {
+            long delay = rateLimiter.reserve();
+            if (delay > 0) {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+        }
+    }
+
     void stop() {
+        if (dispatcher == null) {
+            return;
+        }
         try {
             workingQueue.put(POISON_PILL);
         } catch (InterruptedException e) {
-            completionSignaller.completeExceptionally(e);
+            handle(e);
         } finally {
             dispatcher.shutdown();
         }
     }
 
+    /**
+     * Stops enforcing the collection timeout, if any, once {@code result} is complete
+     */
+    <R> CompletableFuture<R> bounding(CompletableFuture<R> result) {
+        if (collectionTimeout != null) {
+            result.whenComplete((__, ___) -> {
+                ScheduledFuture<?> scheduled = deadline;
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                }
+            });
+        }
+        return result;
+    }
+
     boolean isRunning() {
         return started;
     }
 
+    /**
+     * Gives up on all queued and running tasks, interrupting the latter
+     */
+    void cancel() {
+        handle(new CancellationException("Processing cancelled"));
+    }
+
     CompletableFuture<T> enqueue(Supplier<T> supplier) {
+        return enqueue(supplier, null);
+    }
+
+    /**
+     * Enqueues a task which, once it exceeds the task timeout, is completed with a value provided by {@code onTimeout}
+     * and interrupted - instead of failing the whole collection
+     * <p>
+     * {@code onTimeout} is called on the shared timer thread, so it should return promptly.
+     */
+    CompletableFuture<T> enqueue(Supplier<T> supplier, Supplier<T> onTimeout) {
         InterruptibleCompletableFuture<T> future = new InterruptibleCompletableFuture<>();
-        workingQueue.add(completionTask(supplier, future));
-        completionSignaller.exceptionally(shortcircuit(future));
+        if (shortCircuited) {
+            future.completeExceptionally(failure.get());
+            return future;
+        }
+        workingQueue.add(new CompletionTask(supplier, onTimeout, future, 1));
+        if (shortCircuited) {
+            // the task might have been added after the queue got drained
+            shortcircuitQueued();
+        } else if (dispatcher == null) {
+            signalDispatch();
+        }
         return future;
     }
 
-    private FutureTask<Void> completionTask(Supplier<T> supplier, InterruptibleCompletableFuture<T> future) {
-        FutureTask<Void> task = new FutureTask<>(() -> {
-            try {
-                if (!shortCircuited) {
-                    future.complete(supplier.get());
+    /**
+     * Requests a pass over the working queue - either on the calling thread or on the shared dispatcher thread.
+     * Only one pass runs at a time; concurrent requests just mark that another pass is needed.
+     */
+    private void signalDispatch() {
+        if (pendingDispatches.getAndIncrement() != 0) {
+            return;
+        }
+
+        if (shared != null) {
+            shared.schedule(this::dispatchAvailable);
+        } else {
+            dispatchAvailable();
+        }
+    }
+
+    /**
+     * Hands off queued tasks to the executor for as long as there are free permits.
+     * <p>
+     * When sharing a dispatcher, yields after each hand-off so that collections sharing it are served in a round-robin fashion.
+     */
+    private void dispatchAvailable() {
+        dispatchAvailable(1);
+    }
+
+    private void dispatchAvailable(int missed) {
+        do {
+            Runnable task;
+            while (!shortCircuited && (task = nextTask()) != null) {
+                long delay = rateLimiter == null ? 0 : rateLimiter.reserve();
+                if (delay == 0) {
+                    handOff(task);
+                } else {
+                    // the permit is kept while waiting, so no more than parallelism tasks can wait for their tokens
+                    Runnable delayed = task;
+                    Scheduler.schedule(shared != null
+                      ? () -> shared.schedule(() -> handOff(delayed))
+                      : () -> handOff(delayed), Duration.ofNanos(delay));
                 }
+
+                if (shared != null && (!workingQueue.isEmpty() || (retried != null && !retried.isEmpty()))) {
+                    int pending = missed;
+                    shared.schedule(() -> dispatchAvailable(pending));
+                    return;
+                }
+            }
+        } while ((missed = pendingDispatches.addAndGet(-missed)) != 0);
+    }
+
+    private void handOff(Runnable task) {
+        if (shared != null && (taskTimeout != null || hedging != null)) {
+            shared.dispatch(withRelease(task, sampled(this::releaseAndDispatch)), () -> {}, e -> rejected(task, e));
+        } else if (shared != null) {
+            shared.dispatch(task, sampled(this::releaseAndDispatch), e -> rejected(task, e));
+        } else {
+            try {
+                executor.execute(withRelease(task, sampled(this::releaseAndDispatch)));
             } catch (Throwable e) {
-                handle(e);
+                rejected(task, e);
             }
-        }, null);
-        future.completedBy(task);
-        return task;
+        }
+    }
+
+    private void rejected(Runnable task, Throwable e) {
+        releasePermit();
+        handle(e);
+        shortcircuit(task);
+    }
+
+    /**
+     * Reports the latency of the task to the adaptive limit, if any, before its permits are given back
+     */
+    private Runnable sampled(Runnable release) {
+        if (adaptiveLimit == null) {
+            return release;
+        }
+        long start = System.nanoTime();
+        return () -> {
+            adaptiveLimit.onSample(start, System.nanoTime());
+            adaptiveLimit.release();
+            release.run();
+        };
+    }
+
+    /**
+     * Polls the next task to hand off along with the permits it needs. Next attempts of failed tasks go first and don't need
+     * a lookahead permit, since the one acquired by the first attempt is only given back once the result gets consumed.
+     *
+     * @return the next task, or null if there's none or there are no free permits
+     */
+    private Runnable nextTask() {
+        Runnable task;
+        if (retried != null && !retried.isEmpty() && tryAcquirePermit()) {
+            if ((task = retried.poll()) != null) {
+                return task;
+            }
+            releasePermit();
+        }
+        while (!workingQueue.isEmpty() && tryAcquirePermits()) {
+            if ((task = workingQueue.poll()) != null) {
+                return task;
+            }
+            releasePermit();
+            if (lookahead != null) {
+                lookahead.release();
+            }
+        }
+        return null;
     }
 
+    private boolean tryAcquirePermits() {
+        if (lookahead == null) {
+            return tryAcquirePermit();
+        }
+        if (!lookahead.tryAcquire()) {
+            return false;
+        }
+        if (!tryAcquirePermit()) {
+            lookahead.release();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Acquires a parallelism permit of this collection along with a permit of the adaptive limit shared with other collections, if any
+     */
+    private boolean tryAcquirePermit() {
+        if (!limiter.tryAcquire()) {
+            return false;
+        }
+        if (adaptiveLimit != null && !adaptiveLimit.tryAcquire(dispatchSignal)) {
+            limiter.release();
+            return false;
+        }
+        return true;
+    }
+
+    private void releasePermit() {
+        limiter.release();
+        if (adaptiveLimit != null) {
+            adaptiveLimit.release();
+        }
+    }
+
+    /**
+     * Notifies that {@code count} results have been handed over to the consumer, allowing further tasks to be dispatched
+     */
+    void consumed(int count) {
+        if (lookahead != null && count > 0) {
+            lookahead.release(count);
+            signalDispatch();
+        }
+    }
+
+    private void releaseAndDispatch() {
+        limiter.release();
+        signalDispatch();
+    }
+
+    /**
+     * Fails all queued and running tasks - the work done is proportional to the number of tasks
+     * that haven't completed yet, regardless of how many elements were processed so far
+     */
     private void handle(Throwable e) {
+        if (!failure.compareAndSet(null, e)) {
+            return;
+        }
         shortCircuited = true;
-        completionSignaller.completeExceptionally(e);
-        dispatcher.shutdownNow();
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+        shortcircuitQueued();
+        for (CompletionTask task : running) {
+            task.shortcircuit(e);
+        }
     }
 
-    private static Function<Throwable, Void> shortcircuit(InterruptibleCompletableFuture<?> future) {
-        return throwable -> {
-            future.completeExceptionally(throwable);
-            future.cancel(true);
-            return null;
+    private void shortcircuitQueued() {
+        Runnable task;
+        while ((task = workingQueue.poll()) != null) {
+            shortcircuit(task);
+        }
+        while (retried != null && (task = retried.poll()) != null) {
+            shortcircuit(task);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void shortcircuit(Runnable task) {
+        if (task instanceof Dispatcher.CompletionTask) {
+            ((CompletionTask) task).shortcircuit(failure.get());
+        }
+    }
+
+    /**
+     * Gives the permit back once the task completes or once it exceeds the task timeout, whichever happens first.
+     * A slow task is hedged, if enabled, without occupying another permit.
+     * <p>
+     * A timed out task is interrupted, but a mapper ignoring interrupts keeps occupying its executor thread
+     * even though its permit is already in use by another task.
+     */
+    @SuppressWarnings("unchecked")
+    private Runnable withRelease(Runnable task, Runnable release) {
+        if ((taskTimeout == null && hedging == null) || !(task instanceof Dispatcher.CompletionTask)) {
+            return withFinally(task, release);
+        }
+        CompletionTask timed = (CompletionTask) task;
+        return () -> {
+            long start = System.nanoTime();
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable releaseOnce = () -> {
+                if (released.compareAndSet(false, true)) {
+                    release.run();
+                }
+            };
+            ScheduledFuture<?> timeout = taskTimeout == null ? null : Scheduler.schedule(() -> {
+                timed.timeout();
+                releaseOnce.run();
+            }, taskTimeout);
+            ScheduledFuture<?> hedge = hedging == null ? null : scheduleHedge(timed);
+            try {
+                task.run();
+            } finally {
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+                if (hedging != null) {
+                    timed.cancelHedge(hedge);
+                    hedging.onSample(System.nanoTime() - start);
+                }
+                releaseOnce.run();
+            }
         };
     }
 
+    private ScheduledFuture<?> scheduleHedge(CompletionTask task) {
+        long delay = hedging.delayNanos();
+        return delay < 0 ? null : Scheduler.schedule(() -> hedge(task), Duration.ofNanos(delay));
+    }
+
+    /**
+     * Starts a duplicate attempt of a task that is still running, as long as the hedging budget allows it.
+     * Whichever attempt completes first provides the result, while the other one gets interrupted.
+     */
+    private void hedge(CompletionTask task) {
+        if (shortCircuited || task.future.isDone() || !hedging.tryAcquire()) {
+            return;
+        }
+        FutureTask<Void> attempt = new FutureTask<>(() -> {
+            try {
+                if (task.future.complete(task.supplier.get())) {
+                    task.future.cancel(true);
+                }
+            } catch (Throwable ignored) {
+                // the original attempt is still running and decides about the outcome
+            }
+        }, null);
+        task.hedge = attempt;
+        try {
+            executor.execute(withFinally(attempt, hedging::release));
+        } catch (Throwable e) {
+            hedging.release();
+        }
+    }
+
     private static Runnable withFinally(Runnable task, Runnable finisher) {
         return () -> {
             try {
@@ -137,6 +570,104 @@ final class Dispatcher<T> {
           });
     }
 
+    private final class CompletionTask extends FutureTask<Void> {
+        private final InterruptibleCompletableFuture<T> future;
+        private final Supplier<T> supplier;
+        // null when a timed out task fails the whole collection
+        private final Supplier<T> onTimeout;
+        // null unless a duplicate attempt was started
+        private volatile FutureTask<Void> hedge;
+
+        CompletionTask(Supplier<T> supplier, Supplier<T> onTimeout, InterruptibleCompletableFuture<T> future, int attempt) {
+            super(() -> complete(supplier, onTimeout, future, attempt), null);
+            this.future = future;
+            this.supplier = supplier;
+            this.onTimeout = onTimeout;
+            future.completedBy(this);
+        }
+
+        @Override
+        public void run() {
+            running.add(this);
+            try {
+                super.run();
+            } finally {
+                running.remove(this);
+            }
+        }
+
+        private void shortcircuit(Throwable e) {
+            future.completeExceptionally(e);
+            future.cancel(true);
+        }
+
+        private void cancelHedge(ScheduledFuture<?> scheduled) {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            FutureTask<Void> attempt = hedge;
+            if (attempt != null) {
+                attempt.cancel(true);
+            }
+        }
+
+        private void timeout() {
+            if (onTimeout == null) {
+                handle(new TimeoutException("Task timed out after " + taskTimeout));
+                return;
+            }
+            try {
+                future.complete(onTimeout.get());
+            } catch (Throwable e) {
+                handle(e);
+                future.completeExceptionally(failure.get());
+            }
+            future.cancel(true);
+        }
+    }
+
+    private void complete(Supplier<T> supplier, Supplier<T> onTimeout, InterruptibleCompletableFuture<T> future, int attempt) {
+        try {
+            if (shortCircuited) {
+                future.completeExceptionally(failure.get());
+            } else {
+                future.complete(supplier.get());
+            }
+        } catch (Throwable e) {
+            if (future.isDone()) {
+                // a task interrupted after being given up on must not fail the whole collection
+                return;
+            }
+            if (retryPolicy != null && !shortCircuited && retryPolicy.shouldRetry(e, attempt)) {
+                retry(new CompletionTask(supplier, onTimeout, future, attempt + 1), retryPolicy.backoffNanos(attempt));
+                return;
+            }
+            if (!failFast) {
+                future.completeExceptionally(e);
+                return;
+            }
+            handle(e);
+            // another failure might have been handled first, while this task was already leaving the running set
+            future.completeExceptionally(failure.get());
+        }
+    }
+
+    /**
+     * Queues the next attempt for dispatch once the backoff elapses. Neither a permit nor a thread is held meanwhile.
+     */
+    private void retry(CompletionTask next, long backoffNanos) {
+        Scheduler.schedule(() -> {
+            if (!next.future.isDone()) {
+                retried.add(next);
+                if (shortCircuited) {
+                    shortcircuitQueued();
+                } else {
+                    signalDispatch();
+                }
+            }
+        }, Duration.ofNanos(backoffNanos));
+    }
+
     static final class InterruptibleCompletableFuture<T> extends CompletableFuture<T> {
         private volatile FutureTask<?> backingTask;
 
@@ -152,4 +683,72 @@ final class Dispatcher<T> {
             return super.cancel(mayInterruptIfRunning);
         }
     }
+
+    /**
+     * Settings of a {@link Dispatcher} about to be created, picked by its factory methods and by markers wrapping the {@link Executor}
+     */
+    static final class Options {
+        private Semaphore lookahead;
+        private boolean dedicatedThread = true;
+        // false for tasks which must never be run more than once
+        private boolean repeatable = true;
+        private boolean failFast = true;
+        private Duration taskTimeout;
+        private Duration collectionTimeout;
+        private RateLimiter rateLimiter;
+        private AdaptiveLimit adaptiveLimit;
+        private Hedging hedging;
+        private RetryPolicy retryPolicy;
+
+        private Options() {
+        }
+
+        private Options lookahead(int maxLookahead) {
+            this.lookahead = new Semaphore(maxLookahead);
+            return this;
+        }
+
+        private Options withoutDedicatedThread() {
+            this.dedicatedThread = false;
+            return this;
+        }
+
+        private Options withoutRepeats() {
+            this.repeatable = false;
+            return this;
+        }
+
+        private Options collectingAllErrors() {
+            this.failFast = false;
+            return this;
+        }
+
+        private Options timeouts(Duration taskTimeout, Duration collectionTimeout) {
+            this.taskTimeout = taskTimeout;
+            this.collectionTimeout = collectionTimeout;
+            return this;
+        }
+
+        void rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+        }
+
+        void adaptiveLimit(AdaptiveLimit adaptiveLimit) {
+            this.adaptiveLimit = adaptiveLimit;
+        }
+
+        /**
+         * Ignored for tasks which must never be run more than once
+         */
+        void hedging(Hedging hedging) {
+            this.hedging = hedging;
+        }
+
+        /**
+         * Ignored for tasks which must never be run more than once
+         */
+        void retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+        }
+    }
 }
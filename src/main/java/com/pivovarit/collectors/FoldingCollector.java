@@ -0,0 +1,128 @@
+package com.pivovarit.collectors;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import static com.pivovarit.collectors.AsyncParallelCollector.requireValidParallelism;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Folds results into a single downstream container as soon as their tasks complete, so mapped results
+ * don't outlive the tasks that produced them
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class FoldingCollector<T, R, A, RR>
+  implements Collector<T, FoldingCollector<T, R, A, RR>.Fold, CompletableFuture<RR>> {
+
+    private final Dispatcher<Void> dispatcher;
+    private final Function<T, R> mapper;
+    private final Collector<R, A, RR> collector;
+    private final boolean concurrent;
+
+    private FoldingCollector(Function<T, R> mapper, Collector<R, A, RR> collector, Dispatcher<Void> dispatcher) {
+        this.dispatcher = dispatcher;
+        this.mapper = mapper;
+        this.collector = collector;
+        this.concurrent = collector.characteristics().contains(Characteristics.CONCURRENT);
+    }
+
+    static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> folding(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
+        requireNonNull(collector, "collector can't be null");
+        requireNonNull(executor, "executor can't be null");
+        requireNonNull(mapper, "mapper can't be null");
+        requireValidParallelism(parallelism);
+
+        return new FoldingCollector<>(mapper, collector, Dispatcher.withoutRepeats(executor, parallelism));
+    }
+
+    @Override
+    public Supplier<Fold> supplier() {
+        return Fold::new;
+    }
+
+    @Override
+    public BiConsumer<Fold, T> accumulator() {
+        return (fold, e) -> {
+            if (!dispatcher.isRunning()) {
+                dispatcher.start();
+            }
+            fold.submit(e);
+        };
+    }
+
+    @Override
+    public BinaryOperator<Fold> combiner() {
+        return (left, right) -> {
+            throw new UnsupportedOperationException("Using parallel stream with parallel collectors is a bad idea");
+        };
+    }
+
+    @Override
+    public Function<Fold, CompletableFuture<RR>> finisher() {
+        return fold -> {
+            dispatcher.stop();
+            fold.release();
+            return fold.result;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+
+    final class Fold {
+
+        private final A container = collector.supplier().get();
+        private final BiConsumer<A, R> accumulator = collector.accumulator();
+        private final CompletableFuture<RR> result = new CompletableFuture<>();
+
+        // one extra unit is held by the collecting thread until all elements are submitted
+        private final AtomicInteger remaining = new AtomicInteger(1);
+
+        private void submit(T element) {
+            remaining.incrementAndGet();
+            dispatcher.enqueue(() -> {
+                accumulate(mapper.apply(element));
+                return null;
+            }).whenComplete((__, ex) -> {
+                if (ex != null) {
+                    result.completeExceptionally(ex);
+                } else {
+                    release();
+                }
+            });
+        }
+
+        private void accumulate(R value) {
+            if (concurrent) {
+                accumulator.accept(container, value);
+            } else {
+                synchronized (this) {
+                    accumulator.accept(container, value);
+                }
+            }
+        }
+
+        private void release() {
+            if (remaining.decrementAndGet() == 0) {
+                try {
+                    synchronized (this) {
+                        result.complete(collector.finisher().apply(container));
+                    }
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.pivovarit.collectors;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import static com.pivovarit.collectors.AsyncParallelCollector.requireValidParallelism;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Routes elements into per-key lanes processed serially in encounter order, while distinct keys are processed in parallel.
+ * Each result is accumulated into its key's downstream container as soon as it's produced
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class GroupingCollector<T, K, R, A, D>
+  implements Collector<T, GroupingCollector<T, K, R, A, D>.Groups, CompletableFuture<Map<K, D>>> {
+
+    private final Dispatcher<Void> dispatcher;
+    private final Function<T, K> classifier;
+    private final Function<T, R> mapper;
+    private final Collector<R, A, D> downstream;
+
+    private GroupingCollector(Function<T, K> classifier, Function<T, R> mapper, Collector<R, A, D> downstream, Dispatcher<Void> dispatcher) {
+        this.dispatcher = dispatcher;
+        this.classifier = classifier;
+        this.mapper = mapper;
+        this.downstream = downstream;
+    }
+
+    static <T, K, R> Collector<T, ?, CompletableFuture<Map<K, List<R>>>> groupingBy(Function<T, K> classifier, Function<T, R> mapper, Executor executor, int parallelism) {
+        return groupingBy(classifier, mapper, toList(), executor, parallelism);
+    }
+
+    static <T, K, R, D> Collector<T, ?, CompletableFuture<Map<K, D>>> groupingBy(Function<T, K> classifier, Function<T, R> mapper, Collector<R, ?, D> downstream, Executor executor, int parallelism) {
+        requireNonNull(classifier, "classifier can't be null");
+        requireNonNull(mapper, "mapper can't be null");
+        requireNonNull(downstream, "downstream can't be null");
+        requireNonNull(executor, "executor can't be null");
+        requireValidParallelism(parallelism);
+
+        return new GroupingCollector<>(classifier, mapper, downstream, Dispatcher.withoutRepeats(executor, parallelism));
+    }
+
+    @Override
+    public Supplier<Groups> supplier() {
+        return Groups::new;
+    }
+
+    @Override
+    public BiConsumer<Groups, T> accumulator() {
+        return (groups, e) -> {
+            if (!dispatcher.isRunning()) {
+                dispatcher.start();
+            }
+            groups.route(e);
+        };
+    }
+
+    @Override
+    public BinaryOperator<Groups> combiner() {
+        return (left, right) -> {
+            throw new UnsupportedOperationException("Using parallel stream with parallel collectors is a bad idea");
+        };
+    }
+
+    @Override
+    public Function<Groups, CompletableFuture<Map<K, D>>> finisher() {
+        return groups -> {
+            dispatcher.stop();
+            groups.release();
+            return groups.result;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+
+    final class Groups {
+
+        // only ever modified by the collecting thread
+        private final Map<K, Lane> lanes = new HashMap<>();
+        private final CompletableFuture<Map<K, D>> result = new CompletableFuture<>();
+
+        // one extra unit is held by the collecting thread until all elements are routed
+        private final AtomicInteger remaining = new AtomicInteger(1);
+
+        private void route(T element) {
+            Lane lane = lanes.computeIfAbsent(classifier.apply(element), __ -> new Lane());
+            remaining.incrementAndGet();
+            if (lane.queue.offer(element)) {
+                dispatcher.enqueue(() -> {
+                    lane.queue.drain(e -> {
+                        lane.accumulator.accept(lane.container, mapper.apply(e));
+                        release();
+                    });
+                    return null;
+                }).whenComplete((__, ex) -> {
+                    if (ex != null) {
+                        result.completeExceptionally(ex);
+                    }
+                });
+            }
+        }
+
+        private void release() {
+            if (remaining.decrementAndGet() == 0) {
+                try {
+                    Map<K, D> groups = new HashMap<>(lanes.size() * 4 / 3 + 1);
+                    Function<A, D> finisher = downstream.finisher();
+                    lanes.forEach((key, lane) -> groups.put(key, finisher.apply(lane.container)));
+                    result.complete(groups);
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        }
+
+        private final class Lane {
+            private final SerialQueue<T> queue = new SerialQueue<>();
+            private final A container = downstream.supplier().get();
+            private final BiConsumer<A, R> accumulator = downstream.accumulator();
+        }
+    }
+}
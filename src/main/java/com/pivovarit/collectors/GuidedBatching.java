@@ -0,0 +1,74 @@
+package com.pivovarit.collectors;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Guided self-scheduling of a known-size input: workers claim consecutive chunks from a shared cursor,
+ * and the chunk size shrinks proportionally to the remaining work, so that a few slow elements don't leave other workers idle.
+ * <p>
+ * Each chunk covers half of the worker's fair share of the remaining work, which keeps early chunks
+ * small enough for slow elements to get absorbed by the remaining workers.
+ * <p>
+ * Each result is written at its source index, which keeps the original order without any intermediate collections.
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class GuidedBatching<T, R> {
+
+    private final List<T> source;
+    private final Function<T, R> mapper;
+    private final int workers;
+    private final Object[] results;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    GuidedBatching(List<T> source, Function<T, R> mapper, int workers) {
+        this.source = source;
+        this.mapper = mapper;
+        this.workers = workers;
+        this.results = new Object[source.size()];
+    }
+
+    /**
+     * Processes chunks until the input is exhausted. An interrupted worker gives up by throwing, since the chunks it hasn't processed
+     * would otherwise be left empty.
+     */
+    Void process() {
+        int size = source.size();
+        int start;
+        while ((start = claim(size)) < size) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Worker interrupted with unprocessed elements left");
+            }
+            int end = Math.min(size, start + chunkSize(size - start));
+            for (int i = start; i < end; i++) {
+                results[i] = mapper.apply(source.get(i));
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<R> results() {
+        return (List<R>) Arrays.asList(results);
+    }
+
+    private int claim(int size) {
+        while (true) {
+            int start = cursor.get();
+            if (start >= size) {
+                return size;
+            }
+            if (cursor.compareAndSet(start, start + chunkSize(size - start))) {
+                return start;
+            }
+        }
+    }
+
+    private int chunkSize(int remaining) {
+        return Math.max(1, remaining / (2 * workers));
+    }
+}
@@ -0,0 +1,69 @@
+package com.pivovarit.collectors;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Decides when a duplicate attempt of a slow task should be started - either after a fixed delay,
+ * or once the task runs longer than the {@code QUANTILE} of recently observed latencies.
+ * <p>
+ * Both the budget of duplicate attempts and the observed latencies are shared by all collections using the same {@link HedgingExecutor},
+ * so that short collections benefit from latencies observed by previous ones. No task is hedged until {@code MIN_SAMPLES} of them complete.
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class Hedging {
+
+    private static final double QUANTILE = 0.95;
+    private static final int WINDOW = 128;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECALCULATION_INTERVAL = 16;
+
+    private final Semaphore budget;
+    // -1 when the delay is estimated from observed latencies
+    private final long fixedDelay;
+
+    // guarded by this
+    private final long[] samples = new long[WINDOW];
+    private long sampled;
+
+    private volatile long estimatedDelay = -1;
+
+    Hedging(Semaphore budget, Duration delay) {
+        this.budget = budget;
+        this.fixedDelay = delay == null ? -1 : delay.toNanos();
+    }
+
+    /**
+     * @return the time after which a duplicate attempt should be started, or -1 if it's not known yet
+     */
+    long delayNanos() {
+        return fixedDelay >= 0 ? fixedDelay : estimatedDelay;
+    }
+
+    boolean tryAcquire() {
+        return budget.tryAcquire();
+    }
+
+    void release() {
+        budget.release();
+    }
+
+    void onSample(long latencyNanos) {
+        if (fixedDelay >= 0) {
+            return;
+        }
+        synchronized (this) {
+            samples[(int) (sampled++ % WINDOW)] = latencyNanos;
+            if (sampled == MIN_SAMPLES || (sampled > MIN_SAMPLES && sampled % RECALCULATION_INTERVAL == 0)) {
+                int size = (int) Math.min(sampled, WINDOW);
+                estimatedDelay = Arrays.stream(samples, 0, size)
+                  .sorted()
+                  .skip((long) (QUANTILE * (size - 1)))
+                  .findFirst()
+                  .orElse(-1);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.pivovarit.collectors;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link Executor} marker instructing parallel collectors to start duplicate attempts of slow tasks - see {@link Hedging}
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class HedgingExecutor extends MarkerExecutor {
+
+    private final Hedging hedging;
+
+    private HedgingExecutor(Executor delegate, Hedging hedging) {
+        super(delegate);
+        this.hedging = hedging;
+    }
+
+    static Executor of(Executor executor, Duration delay, int maxHedges) {
+        requireNonNull(delay, "delay can't be null");
+        if (delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("Hedging delay needs to be positive");
+        }
+
+        return create(executor, delay, maxHedges);
+    }
+
+    /**
+     * Creates a marker hedging tasks running longer than most of the recently completed ones
+     */
+    static Executor estimating(Executor executor, int maxHedges) {
+        return create(executor, null, maxHedges);
+    }
+
+    private static Executor create(Executor executor, Duration delay, int maxHedges) {
+        requireNonNull(executor, "executor can't be null");
+        if (maxHedges < 1) {
+            throw new IllegalArgumentException("Max hedges can't be lower than 1");
+        }
+
+        return new HedgingExecutor(executor, new Hedging(new Semaphore(maxHedges), delay));
+    }
+
+    @Override
+    Executor withDelegate(Executor delegate) {
+        return new HedgingExecutor(delegate, hedging);
+    }
+
+    /**
+     * The hedging policy is shared by all collections using this instance, along with its budget and observed latencies
+     */
+    @Override
+    void configure(Dispatcher.Options options) {
+        options.hedging(hedging);
+    }
+}
@@ -0,0 +1,160 @@
+package com.pivovarit.collectors;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import static com.pivovarit.collectors.AsyncParallelCollector.combine;
+import static com.pivovarit.collectors.AsyncParallelCollector.requireValidParallelism;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs tasks sharing a key sequentially in submission order, while tasks with distinct keys run in parallel.
+ * Each key gets its own {@link SerialQueue} drained by a single dispatcher task at a time, so no global lock is involved
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class KeyedCollector<T, K, R, C>
+  implements Collector<T, KeyedCollector<T, K, R, C>.Lanes, CompletableFuture<C>> {
+
+    private final Dispatcher<Void> dispatcher;
+    private final Function<T, K> keyExtractor;
+    private final Function<T, R> mapper;
+    private final Function<Stream<R>, C> processor;
+
+    private KeyedCollector(Function<T, K> keyExtractor, Function<T, R> mapper, Dispatcher<Void> dispatcher, Function<Stream<R>, C> processor) {
+        this.dispatcher = dispatcher;
+        this.keyExtractor = keyExtractor;
+        this.mapper = mapper;
+        this.processor = processor;
+    }
+
+    static <T, K, R, RR> Collector<T, ?, CompletableFuture<RR>> collectingByKey(Function<T, K> keyExtractor, Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
+        requireNonNull(keyExtractor, "keyExtractor can't be null");
+        requireNonNull(mapper, "mapper can't be null");
+        requireNonNull(collector, "collector can't be null");
+        requireNonNull(executor, "executor can't be null");
+        requireValidParallelism(parallelism);
+
+        return new KeyedCollector<>(keyExtractor, mapper, Dispatcher.withoutRepeats(executor, parallelism), s -> s.collect(collector));
+    }
+
+    @Override
+    public Supplier<Lanes> supplier() {
+        return Lanes::new;
+    }
+
+    @Override
+    public BiConsumer<Lanes, T> accumulator() {
+        return (lanes, e) -> {
+            if (!dispatcher.isRunning()) {
+                dispatcher.start();
+            }
+            lanes.add(e);
+        };
+    }
+
+    @Override
+    public BinaryOperator<Lanes> combiner() {
+        return (left, right) -> {
+            throw new UnsupportedOperationException("Using parallel stream with parallel collectors is a bad idea");
+        };
+    }
+
+    @Override
+    public Function<Lanes, CompletableFuture<C>> finisher() {
+        return lanes -> {
+            dispatcher.stop();
+
+            return combine(lanes.futures.build()).thenApply(processor);
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+
+    final class Lanes {
+
+        // only ever modified by the collecting thread
+        private final Map<K, SerialQueue<Task>> queues = new HashMap<>();
+        private final Stream.Builder<CompletableFuture<R>> futures = Stream.builder();
+
+        private void add(T element) {
+            Task task = new Task(element);
+            futures.add(task.result);
+
+            SerialQueue<Task> queue = queues.computeIfAbsent(keyExtractor.apply(element), __ -> new SerialQueue<>());
+            if (queue.offer(task)) {
+                // whoever claims the queue first drains it, so that it's never drained concurrently
+                AtomicBoolean claimed = new AtomicBoolean();
+                dispatcher.enqueue(() -> claimed.compareAndSet(false, true) ? drain(queue) : null)
+                  .whenComplete((__, ex) -> {
+                      // the dispatcher gave up before draining, so nobody else is going to complete the queued tasks
+                      if (ex != null && claimed.compareAndSet(false, true)) {
+                          queue.drain(t -> t.result.completeExceptionally(ex));
+                      }
+                  });
+            }
+        }
+    }
+
+    /**
+     * Once a task fails, the remaining tasks of the same key are failed without running, and the failure gets rethrown after the
+     * queue is drained so that the dispatcher short-circuits tasks of other keys
+     */
+    private Void drain(SerialQueue<Task> queue) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        queue.drain(task -> {
+            Throwable previous = failure.get();
+            if (previous != null) {
+                task.result.completeExceptionally(previous);
+            } else {
+                failure.set(task.run());
+            }
+        });
+
+        Throwable e = failure.get();
+        if (e instanceof Error) {
+            throw (Error) e;
+        } else if (e != null) {
+            throw e instanceof RuntimeException ? (RuntimeException) e : new CompletionException(e);
+        }
+        return null;
+    }
+
+    private final class Task {
+        private final T element;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+
+        private Task(T element) {
+            this.element = element;
+        }
+
+        /**
+         * @return the failure of the mapper, or {@code null} if it succeeded
+         */
+        private Throwable run() {
+            try {
+                result.complete(mapper.apply(element));
+                return null;
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+                return e;
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.pivovarit.collectors;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.pivovarit.collectors.AsyncParallelCollector.requireValidParallelism;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Pulls elements from the source only when results are requested, keeping at most {@code parallelism} of them in flight
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class LazyParallelSpliterator<T, R> implements Spliterator<R> {
+
+    private final Spliterator<T> source;
+    private final Function<T, R> mapper;
+    private final Dispatcher<R> dispatcher;
+    private final int parallelism;
+    private final boolean ordered;
+
+    // in-flight tasks in submission order, used only when results are returned in the original order
+    private final Queue<CompletableFuture<R>> submitted = new ArrayDeque<>();
+    // finished tasks in completion order, used only when results are returned as they arrive
+    private final BlockingQueue<CompletableFuture<R>> completed = new LinkedBlockingQueue<>();
+
+    private int inFlight;
+    private boolean exhausted;
+
+    private LazyParallelSpliterator(Spliterator<T> source, Function<T, R> mapper, Dispatcher<R> dispatcher, int parallelism, boolean ordered) {
+        this.source = source;
+        this.mapper = mapper;
+        this.dispatcher = dispatcher;
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+    }
+
+    static <T, R> Stream<R> streaming(Stream<T> source, Function<T, R> mapper, Executor executor, int parallelism) {
+        return stream(source, mapper, executor, parallelism, false);
+    }
+
+    static <T, R> Stream<R> streamingOrdered(Stream<T> source, Function<T, R> mapper, Executor executor, int parallelism) {
+        return stream(source, mapper, executor, parallelism, true);
+    }
+
+    private static <T, R> Stream<R> stream(Stream<T> source, Function<T, R> mapper, Executor executor, int parallelism, boolean ordered) {
+        requireNonNull(source, "source can't be null");
+        requireNonNull(executor, "executor can't be null");
+        requireNonNull(mapper, "mapper can't be null");
+        requireValidParallelism(parallelism);
+
+        // the dispatcher enforces rate limits, retries and shared budgets the executor might carry
+        Dispatcher<R> dispatcher = Dispatcher.direct(executor, parallelism);
+        dispatcher.start();
+
+        return StreamSupport
+          .stream(() -> new LazyParallelSpliterator<>(source.spliterator(), mapper, dispatcher, parallelism, ordered), ordered ? ORDERED : 0, false)
+          .onClose(() -> {
+              // tasks still in flight when the stream gets abandoned are interrupted
+              try {
+                  dispatcher.cancel();
+              } finally {
+                  source.close();
+              }
+          });
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        fill();
+        if (inFlight == 0) {
+            return false;
+        }
+
+        CompletableFuture<R> next = next();
+        inFlight--;
+        // keep the executor busy while the caller handles the result
+        fill();
+
+        R result;
+        try {
+            result = next.join();
+        } catch (RuntimeException e) {
+            exhausted = true;
+            dispatcher.cancel();
+            throw e;
+        }
+        action.accept(result);
+        return true;
+    }
+
+    private void fill() {
+        while (!exhausted && inFlight < parallelism) {
+            if (!source.tryAdvance(this::submit)) {
+                exhausted = true;
+            }
+        }
+    }
+
+    private void submit(T element) {
+        CompletableFuture<R> future = dispatcher.enqueue(() -> mapper.apply(element));
+        inFlight++;
+        if (ordered) {
+            submitted.add(future);
+        } else {
+            future.whenComplete((__, ___) -> completed.add(future));
+        }
+    }
+
+    private CompletableFuture<R> next() {
+        if (ordered) {
+            return submitted.remove();
+        }
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        long remaining = source.estimateSize() + inFlight;
+        return remaining < 0 ? Long.MAX_VALUE : remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ordered ? ORDERED : 0;
+    }
+}
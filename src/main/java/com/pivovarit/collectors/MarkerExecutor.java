@@ -0,0 +1,56 @@
+package com.pivovarit.collectors;
+
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+
+/**
+ * An {@link Executor} marker carrying settings which parallel collectors enforce on their own while dispatching tasks
+ * to the wrapped {@link Executor} - see {@link Dispatcher}
+ * <p>
+ * Markers are always kept outside of dispatch-mode markers, so that those can be detected regardless of the order they were applied in.
+ *
+ * @author Grzegorz Piwowarek
+ */
+abstract class MarkerExecutor implements Executor {
+
+    private final Executor delegate;
+
+    MarkerExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Applies a dispatch-mode {@code marker} beneath all markers wrapping {@code executor}
+     */
+    static Executor wrapInnermost(Executor executor, UnaryOperator<Executor> marker) {
+        return executor instanceof MarkerExecutor
+          ? ((MarkerExecutor) executor).wrapInside(e -> wrapInnermost(e, marker))
+          : marker.apply(executor);
+    }
+
+    final Executor delegate() {
+        return delegate;
+    }
+
+    /**
+     * Applies {@code marker} to the wrapped {@link Executor}, keeping this marker outside of it
+     */
+    final Executor wrapInside(UnaryOperator<Executor> marker) {
+        return withDelegate(marker.apply(delegate));
+    }
+
+    /**
+     * @return a marker wrapping {@code delegate} instead, sharing the settings and state of this one
+     */
+    abstract Executor withDelegate(Executor delegate);
+
+    /**
+     * Passes the settings carried by this marker on to a {@link Dispatcher} about to be created
+     */
+    abstract void configure(Dispatcher.Options options);
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+}
@@ -0,0 +1,130 @@
+package com.pivovarit.collectors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import static com.pivovarit.collectors.AsyncParallelCollector.requireValidParallelism;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.collectingAndThen;
+
+/**
+ * Processes all elements regardless of failures and exposes the outcome of each of them as a completed {@link CompletableFuture}.
+ * Completion of all tasks is tracked with a single counter instead of combining futures, so a failure doesn't trigger
+ * a cascade of listeners.
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class OutcomeCollector<T, R>
+  implements Collector<T, OutcomeCollector<T, R>.Outcomes, CompletableFuture<List<CompletableFuture<R>>>> {
+
+    private final Dispatcher<R> dispatcher;
+    private final Function<T, R> mapper;
+
+    private OutcomeCollector(Function<T, R> mapper, Dispatcher<R> dispatcher) {
+        this.dispatcher = dispatcher;
+        this.mapper = mapper;
+    }
+
+    static <T, R> Collector<T, ?, CompletableFuture<List<CompletableFuture<R>>>> outcomes(Function<T, R> mapper, Executor executor, int parallelism) {
+        requireNonNull(executor, "executor can't be null");
+        requireNonNull(mapper, "mapper can't be null");
+        requireValidParallelism(parallelism);
+
+        return new OutcomeCollector<>(mapper, Dispatcher.collectingAllErrors(executor, parallelism));
+    }
+
+    static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> collectingAllErrors(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
+        requireNonNull(collector, "collector can't be null");
+
+        return collectingAndThen(outcomes(mapper, executor, parallelism),
+          outcomes -> outcomes.thenApply(list -> collect(list, collector)));
+    }
+
+    /**
+     * Reduces successful results, or fails with an exception carrying the first failure as its cause and all the others as suppressed
+     */
+    static <R, RR> RR collect(List<CompletableFuture<R>> outcomes, Collector<R, ?, RR> collector) {
+        List<Throwable> failures = new ArrayList<>();
+        for (CompletableFuture<R> outcome : outcomes) {
+            if (outcome.isCompletedExceptionally()) {
+                failures.add(outcome.handle((__, e) -> e).join());
+            }
+        }
+        if (!failures.isEmpty()) {
+            CompletionException aggregated = new CompletionException(failures.size() + " of " + outcomes.size() + " tasks failed", failures.get(0));
+            failures.stream().skip(1).forEach(aggregated::addSuppressed);
+            throw aggregated;
+        }
+        return outcomes.stream().map(CompletableFuture::join).collect(collector);
+    }
+
+    @Override
+    public Supplier<Outcomes> supplier() {
+        return Outcomes::new;
+    }
+
+    @Override
+    public BiConsumer<Outcomes, T> accumulator() {
+        return (outcomes, e) -> {
+            if (!dispatcher.isRunning()) {
+                dispatcher.start();
+            }
+            outcomes.submit(e);
+        };
+    }
+
+    @Override
+    public BinaryOperator<Outcomes> combiner() {
+        return (left, right) -> {
+            throw new UnsupportedOperationException("Using parallel stream with parallel collectors is a bad idea");
+        };
+    }
+
+    @Override
+    public Function<Outcomes, CompletableFuture<List<CompletableFuture<R>>>> finisher() {
+        return outcomes -> {
+            dispatcher.stop();
+            outcomes.release();
+            return outcomes.result;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+
+    final class Outcomes {
+
+        // only ever modified by the collecting thread
+        private final List<CompletableFuture<R>> futures = new ArrayList<>();
+        private final CompletableFuture<List<CompletableFuture<R>>> result = new CompletableFuture<>();
+
+        // one extra unit is held by the collecting thread until all elements are submitted
+        private final AtomicInteger remaining = new AtomicInteger(1);
+
+        private void submit(T element) {
+            remaining.incrementAndGet();
+            CompletableFuture<R> future = dispatcher.enqueue(() -> mapper.apply(element));
+            futures.add(future);
+            future.whenComplete((__, ___) -> release());
+        }
+
+        private void release() {
+            if (remaining.decrementAndGet() == 0) {
+                result.complete(Collections.unmodifiableList(futures));
+            }
+        }
+    }
+}
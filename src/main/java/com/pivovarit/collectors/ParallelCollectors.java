@@ -1,10 +1,20 @@
 package com.pivovarit.collectors;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
@@ -74,6 +84,107 @@ public final class ParallelCollectors {
         return AsyncParallelCollector.collectingWithCollector(collector, mapper, executor, parallelism);
     }
 
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+     *
+     * <br><br>
+     * A task running longer than {@code taskTimeout} is interrupted and its permit is given back immediately,
+     * while the resulting {@code CompletableFuture} is completed exceptionally with a {@link java.util.concurrent.TimeoutException}
+     * and all remaining tasks are cancelled.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), executor, 2, Duration.ofSeconds(1)));
+     * }</pre>
+     *
+     * @param mapper      a transformation to be performed in parallel
+     * @param collector   the {@code Collector} describing the reduction
+     * @param executor    the {@code Executor} to use for asynchronous execution
+     * @param parallelism the max parallelism level
+     * @param taskTimeout the max time a single task can run for
+     * @param <T>         the type of the collected elements
+     * @param <R>         the result returned by {@code mapper}
+     * @param <RR>        the reduction result {@code collector}
+     *
+     * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallel(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism, Duration taskTimeout) {
+        return AsyncParallelCollector.collectingWithCollector(collector, mapper, executor, parallelism, taskTimeout);
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+     *
+     * <br><br>
+     * A task running longer than {@code taskTimeout} is interrupted and its permit is given back immediately,
+     * while its result is replaced with the one returned by {@code fallback} for the same element.
+     * The {@code fallback} is called on a shared timer thread, so it should return promptly.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), executor, 2, Duration.ofSeconds(1), i -> "default"));
+     * }</pre>
+     *
+     * @param mapper      a transformation to be performed in parallel
+     * @param collector   the {@code Collector} describing the reduction
+     * @param executor    the {@code Executor} to use for asynchronous execution
+     * @param parallelism the max parallelism level
+     * @param taskTimeout the max time a single task can run for
+     * @param fallback    provides a result for an element whose task timed out
+     * @param <T>         the type of the collected elements
+     * @param <R>         the result returned by {@code mapper}
+     * @param <RR>        the reduction result {@code collector}
+     *
+     * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallel(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism, Duration taskTimeout, Function<T, R> fallback) {
+        return AsyncParallelCollector.collectingWithCollector(collector, mapper, executor, parallelism, taskTimeout, fallback);
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+     *
+     * <br><br>
+     * A task running longer than {@code taskTimeout}, or any task still pending once {@code collectionTimeout} elapses
+     * since the first element got collected, is interrupted, while the resulting {@code CompletableFuture} is completed exceptionally
+     * with a {@link java.util.concurrent.TimeoutException} and all remaining tasks are cancelled.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), executor, 2, Duration.ofSeconds(1), Duration.ofSeconds(5)));
+     * }</pre>
+     *
+     * @param mapper            a transformation to be performed in parallel
+     * @param collector         the {@code Collector} describing the reduction
+     * @param executor          the {@code Executor} to use for asynchronous execution
+     * @param parallelism       the max parallelism level
+     * @param taskTimeout       the max time a single task can run for
+     * @param collectionTimeout the max time processing of all elements can take
+     * @param <T>               the type of the collected elements
+     * @param <R>               the result returned by {@code mapper}
+     * @param <RR>              the reduction result {@code collector}
+     *
+     * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallel(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism, Duration taskTimeout, Duration collectionTimeout) {
+        return AsyncParallelCollector.collectingWithCollector(collector, mapper, executor, parallelism, taskTimeout, collectionTimeout);
+    }
+
     /**
      * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
      * and returning them as {@link CompletableFuture} containing a {@link Stream} of these elements
@@ -257,140 +368,1383 @@ public final class ParallelCollectors {
     }
 
     /**
-     * A convenience {@code Collector} for collecting a {@code Stream<CompletableFuture<T>>}
-     * into a {@code CompletableFuture<R>} using a provided {@code Collector<T, ?, R>}
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and returning a {@link Stream} instance returning results as they arrive while maintaining the initial order.
+     * <p>
+     * At most {@code maxLookahead} results can be computed ahead of the first not yet consumed element - once the limit is reached,
+     * further tasks wait until the consumer catches up, so a single slow element doesn't make results pile up in memory.
      *
-     * @param collector the {@code Collector} describing the reduction
-     * @param <T>       the type of the collected elements
-     * @param <R>       the result of the transformation
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Stream.of(1, 2, 3)
+     *   .collect(parallelToOrderedStreamWithLookahead(i -> foo(), executor, 2, 100))
+     *   .forEach(System.out::println);
+     * }</pre>
      *
-     * @return a {@code Collector} which collects all futures and combines them into a single future
-     * using the provided downstream {@code Collector}
+     * @param mapper       a transformation to be performed in parallel
+     * @param executor     the {@code Executor} to use for asynchronous execution
+     * @param parallelism  the max parallelism level - the max number of tasks running at a time
+     * @param maxLookahead the max number of results computed but not yet consumed, not lower than {@code parallelism} - not a batch size
+     * @param <T>          the type of the collected elements
+     * @param <R>          the result returned by {@code mapper}
      *
-     * @since 2.3.0
+     * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+     *
+     * @since 2.6.0
      */
-    public static <T, R> Collector<CompletableFuture<T>, ?, CompletableFuture<R>> toFuture(Collector<T, ?, R> collector) {
-        return FutureCollectors.toFuture(collector);
+    public static <T, R> Collector<T, ?, Stream<R>> parallelToOrderedStreamWithLookahead(Function<T, R> mapper, Executor executor, int parallelism, int maxLookahead) {
+        return ParallelStreamCollector.streamingOrdered(mapper, executor, parallelism, maxLookahead);
     }
 
     /**
-     * A convenience {@code Collector} for collecting a {@code Stream<CompletableFuture<T>>} into a {@code CompletableFuture<List<T>>}
+     * Lazily applies a transformation to elements of the source {@link Stream} in parallel on a custom {@link Executor}
+     * and returns a {@link Stream} instance returning results as they arrive.
+     * <p>
+     * Unlike {@link ParallelCollectors#parallelToStream(Function, Executor, int)}, the source is consumed only
+     * as results are requested - at most {@code parallelism} elements are processed ahead of the consumer,
+     * so short-circuiting operations like {@code limit()} or {@code findFirst()} stop processing early.
      *
-     * @param <T> the type of the collected elements
+     * <br>
+     * Example:
+     * <pre>{@code
+     * parallelMap(Stream.iterate(1, i -> i + 1), i -> foo(i), executor, 4)
+     *   .limit(10)
+     *   .forEach(System.out::println);
+     * }</pre>
      *
-     * @return a {@code Collector} which collects all futures and combines them into a single future
-     * returning a list of results
+     * @param source      the source {@code Stream}
+     * @param mapper      a transformation to be performed in parallel
+     * @param executor    the {@code Executor} to use for asynchronous execution
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the source elements
+     * @param <R>         the result returned by {@code mapper}
      *
-     * @since 2.3.0
+     * @return a lazy {@code Stream} of processed elements
+     *
+     * @since 2.6.0
      */
-    public static <T> Collector<CompletableFuture<T>, ?, CompletableFuture<List<T>>> toFuture() {
-        return FutureCollectors.toFuture();
+    public static <T, R> Stream<R> parallelMap(Stream<T> source, Function<T, R> mapper, Executor executor, int parallelism) {
+        return LazyParallelSpliterator.streaming(source, mapper, executor, parallelism);
     }
 
     /**
-     * A subset of collectors which perform operations in batches and not separately (one object in a thread pool's worker queue represents a batch of operations to be performed by a single thread)
+     * Lazily applies a transformation to elements of the source {@link Stream} in parallel on a custom {@link Executor}
+     * and returns a {@link Stream} instance returning results in the original order.
+     * <p>
+     * Unlike {@link ParallelCollectors#parallelToOrderedStream(Function, Executor, int)}, the source is consumed only
+     * as results are requested - at most {@code parallelism} elements are processed ahead of the consumer,
+     * so short-circuiting operations like {@code limit()} or {@code findFirst()} stop processing early.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * parallelMapOrdered(Stream.iterate(1, i -> i + 1), i -> foo(i), executor, 4)
+     *   .limit(10)
+     *   .forEach(System.out::println);
+     * }</pre>
+     *
+     * @param source      the source {@code Stream}
+     * @param mapper      a transformation to be performed in parallel
+     * @param executor    the {@code Executor} to use for asynchronous execution
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the source elements
+     * @param <R>         the result returned by {@code mapper}
+     *
+     * @return a lazy {@code Stream} of processed elements
+     *
+     * @since 2.6.0
      */
-    public static final class Batching {
+    public static <T, R> Stream<R> parallelMapOrdered(Stream<T> source, Function<T, R> mapper, Executor executor, int parallelism) {
+        return LazyParallelSpliterator.streamingOrdered(source, mapper, executor, parallelism);
+    }
 
-        private Batching() {
-        }
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and folding them into a result of the application of the user-provided {@link Collector}, returned as a {@link CompletableFuture}.
+     *
+     * <br><br>
+     * Each result is accumulated into a single downstream container as soon as its task completes, so at most {@code parallelism}
+     * mapped results are alive at any time, which suits aggregations like counting, summing or top-K selection.
+     * Accumulation is serialized unless the provided {@link Collector} is {@link Collector.Characteristics#CONCURRENT}.
+     *
+     * <br><br>
+     * Results are accumulated in completion order. Instances should not be reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<Long> result = Stream.of(1, 2, 3)
+     *   .collect(parallelFolding(i -> foo(i), summingLong(i -> i), executor, 2));
+     * }</pre>
+     *
+     * @param mapper      a transformation to be performed in parallel
+     * @param collector   the {@code Collector} describing the reduction
+     * @param executor    the {@code Executor} to use for asynchronous execution
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the collected elements
+     * @param <R>         the result returned by {@code mapper}
+     * @param <RR>        the reduction result {@code collector}
+     *
+     * @return a {@code Collector} which folds all processed elements using the user-provided {@code Collector} in completion order
+     *
+     * @since 2.6.0
+     */
+    public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallelFolding(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
+        return FoldingCollector.folding(mapper, collector, executor, parallelism);
+    }
 
-        /**
-         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
-         * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
-         *
-         * <br>
-         * Example:
-         * <pre>{@code
-         * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
-         *   .collect(parallel(i -> foo(i), toList(), executor, 2));
-         * }</pre>
-         *
-         * @param mapper      a transformation to be performed in parallel
-         * @param collector   the {@code Collector} describing the reduction
-         * @param executor    the {@code Executor} to use for asynchronous execution
-         * @param parallelism the max parallelism level
-         * @param <T>         the type of the collected elements
-         * @param <R>         the result returned by {@code mapper}
-         * @param <RR>        the reduction result {@code collector}
-         *
-         * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
-         *
-         * @since 2.1.0
-         */
-        public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallel(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
-            return AsyncParallelCollector.BatchingCollectors
-              .collectingWithCollector(collector, mapper, executor, parallelism);
-        }
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and grouping them by key, returned as a {@link CompletableFuture} containing a {@link Map} of results of the application of the user-provided {@link Collector}.
+     *
+     * <br><br>
+     * Elements are routed by the {@code classifier} into per-key lanes. Distinct keys are processed in parallel, while elements
+     * sharing a key are processed one at a time in encounter order. Each result is accumulated into its key's downstream container
+     * as soon as it's produced, so mapped results aren't kept around until all elements are processed.
+     *
+     * <br><br>
+     * Instances should not be reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<Map<String, Long>> result = Stream.of(order1, order2, order3)
+     *   .collect(parallelGroupingBy(Order::customerId, o -> enrich(o), counting(), executor, 2));
+     * }</pre>
+     *
+     * @param classifier  a function assigning each element to its key
+     * @param mapper      a transformation to be performed in parallel
+     * @param downstream  the {@code Collector} describing the reduction of each group
+     * @param executor    the {@code Executor} to use for asynchronous execution
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the collected elements
+     * @param <K>         the type of the keys
+     * @param <R>         the result returned by {@code mapper}
+     * @param <D>         the reduction result of {@code downstream}
+     *
+     * @return a {@code Collector} which groups all processed elements by key in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, K, R, D> Collector<T, ?, CompletableFuture<Map<K, D>>> parallelGroupingBy(Function<T, K> classifier, Function<T, R> mapper, Collector<R, ?, D> downstream, Executor executor, int parallelism) {
+        return GroupingCollector.groupingBy(classifier, mapper, downstream, executor, parallelism);
+    }
 
-        /**
-         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
-         * and returning them as {@link CompletableFuture} containing a {@link Stream} of these elements.
-         *
-         * <br><br>
-         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
-         *
-         * <br>
-         * Example:
-         * <pre>{@code
-         * CompletableFuture<Stream<String>> result = Stream.of(1, 2, 3)
-         *   .collect(parallel(i -> foo(), executor, 2));
-         * }</pre>
-         *
-         * @param mapper      a transformation to be performed in parallel
-         * @param executor    the {@code Executor} to use for asynchronous execution
-         * @param parallelism the max parallelism level
-         * @param <T>         the type of the collected elements
-         * @param <R>         the result returned by {@code mapper}
-         *
-         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
-         *
-         * @since 2.1.0
-         */
-        public static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> parallel(Function<T, R> mapper, Executor executor, int parallelism) {
-            return AsyncParallelCollector.BatchingCollectors.collectingToStream(mapper, executor, parallelism);
-        }
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and grouping them by key, returned as a {@link CompletableFuture} containing a {@link Map} of {@link List}s of results.
+     *
+     * <br><br>
+     * Elements are routed by the {@code classifier} into per-key lanes. Distinct keys are processed in parallel, while elements
+     * sharing a key are processed one at a time in encounter order, so each {@code List} maintains the order of processed {@link Stream}.
+     *
+     * <br><br>
+     * Instances should not be reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<Map<String, List<EnrichedOrder>>> result = Stream.of(order1, order2, order3)
+     *   .collect(parallelGroupingBy(Order::customerId, o -> enrich(o), executor, 2));
+     * }</pre>
+     *
+     * @param classifier  a function assigning each element to its key
+     * @param mapper      a transformation to be performed in parallel
+     * @param executor    the {@code Executor} to use for asynchronous execution
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the collected elements
+     * @param <K>         the type of the keys
+     * @param <R>         the result returned by {@code mapper}
+     *
+     * @return a {@code Collector} which groups all processed elements by key in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, K, R> Collector<T, ?, CompletableFuture<Map<K, List<R>>>> parallelGroupingBy(Function<T, K> classifier, Function<T, R> mapper, Executor executor, int parallelism) {
+        return GroupingCollector.groupingBy(classifier, mapper, executor, parallelism);
+    }
 
-        /**
-         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
-         * and returning a {@link Stream} instance returning results as they arrive.
-         * <p>
-         * For the parallelism of 1, the stream is executed by the calling thread.
-         *
-         * <br>
-         * Example:
-         * <pre>{@code
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+     *
+     * <br><br>
+     * Tasks sharing a key extracted by {@code keyExtractor} never run concurrently and run sequentially in submission order,
+     * while tasks with distinct keys run in parallel up to the {@code parallelism} limit. Useful when a transformation
+     * must not run concurrently for the same entity, e.g. when updating a single account.
+     *
+     * <br><br>
+     * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<Receipt>> result = Stream.of(update1, update2, update3)
+     *   .collect(parallelByKey(Update::accountId, u -> apply(u), toList(), executor, 2));
+     * }</pre>
+     *
+     * @param keyExtractor a function extracting the key tasks are serialized by
+     * @param mapper       a transformation to be performed in parallel
+     * @param collector    the {@code Collector} describing the reduction
+     * @param executor     the {@code Executor} to use for asynchronous execution
+     * @param parallelism  the max parallelism level
+     * @param <T>          the type of the collected elements
+     * @param <K>          the type of the keys
+     * @param <R>          the result returned by {@code mapper}
+     * @param <RR>         the reduction result {@code collector}
+     *
+     * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, K, R, RR> Collector<T, ?, CompletableFuture<RR>> parallelByKey(Function<T, K> keyExtractor, Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
+        return KeyedCollector.collectingByKey(keyExtractor, mapper, collector, executor, parallelism);
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and returning them as {@link CompletableFuture} containing a {@link List} of outcomes of processing each element.
+     *
+     * <br><br>
+     * A failing element doesn't affect the remaining ones - each of them gets processed, and its outcome is a {@code CompletableFuture}
+     * completed either with the result or with the failure. The returned {@code CompletableFuture} completes once all elements are processed.
+     *
+     * <br><br>
+     * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<CompletableFuture<String>>> result = Stream.of(1, 2, 3)
+     *   .collect(parallelOutcomes(i -> foo(i), executor, 2));
+     * }</pre>
+     *
+     * @param mapper      a transformation to be performed in parallel
+     * @param executor    the {@code Executor} to use for asynchronous execution
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the collected elements
+     * @param <R>         the result returned by {@code mapper}
+     *
+     * @return a {@code Collector} which collects outcomes of processing all elements in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R> Collector<T, ?, CompletableFuture<List<CompletableFuture<R>>>> parallelOutcomes(Function<T, R> mapper, Executor executor, int parallelism) {
+        return OutcomeCollector.outcomes(mapper, executor, parallelism);
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+     * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+     *
+     * <br><br>
+     * A failing element doesn't affect the remaining ones - all elements get processed. If any of them failed, the returned {@code CompletableFuture}
+     * is completed exceptionally with a {@link java.util.concurrent.CompletionException} caused by the first failure in encounter order,
+     * with all remaining failures attached as suppressed exceptions. Use {@link #parallelOutcomes(Function, Executor, int)} to access partial results.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallelCollectingAllErrors(i -> foo(i), toList(), executor, 2));
+     * }</pre>
+     *
+     * @param mapper      a transformation to be performed in parallel
+     * @param collector   the {@code Collector} describing the reduction
+     * @param executor    the {@code Executor} to use for asynchronous execution
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the collected elements
+     * @param <R>         the result returned by {@code mapper}
+     * @param <RR>        the reduction result {@code collector}
+     *
+     * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallelCollectingAllErrors(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
+        return OutcomeCollector.collectingAllErrors(mapper, collector, executor, parallelism);
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on virtual threads
+     * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+     *
+     * <br><br>
+     * Each task runs on a new virtual thread (or on a shared pool of daemon threads on runtimes without virtual threads support)
+     * and no dispatcher thread is started. The max parallelism level defaults to {@code 256}, which suits IO-bound transformations.
+     * Without virtual threads support, it defaults to the number of available processors minus one (but at least 4) instead,
+     * since each task occupies a platform thread.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList()));
+     * }</pre>
+     *
+     * @param mapper    a transformation to be performed in parallel
+     * @param collector the {@code Collector} describing the reduction
+     * @param <T>       the type of the collected elements
+     * @param <R>       the result returned by {@code mapper}
+     * @param <RR>      the reduction result {@code collector}
+     *
+     * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallel(Function<T, R> mapper, Collector<R, ?, RR> collector) {
+        return parallel(mapper, collector, VirtualThreads.defaultParallelism());
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on virtual threads
+     * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+     *
+     * <br><br>
+     * Each task runs on a new virtual thread (or on a shared pool of daemon threads on runtimes without virtual threads support)
+     * and no dispatcher thread is started.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), 1000));
+     * }</pre>
+     *
+     * @param mapper      a transformation to be performed in parallel
+     * @param collector   the {@code Collector} describing the reduction
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the collected elements
+     * @param <R>         the result returned by {@code mapper}
+     * @param <RR>        the reduction result {@code collector}
+     *
+     * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallel(Function<T, R> mapper, Collector<R, ?, RR> collector, int parallelism) {
+        return AsyncParallelCollector.collectingWithCollector(collector, mapper, VirtualThreads.executor(), parallelism);
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on virtual threads
+     * and returning them as {@link CompletableFuture} containing a {@link Stream} of these elements.
+     *
+     * <br><br>
+     * Each task runs on a new virtual thread (or on a shared pool of daemon threads on runtimes without virtual threads support)
+     * and no dispatcher thread is started. The max parallelism level defaults to {@code 256}, which suits IO-bound transformations.
+     * Without virtual threads support, it defaults to the number of available processors minus one (but at least 4) instead,
+     * since each task occupies a platform thread.
+     *
+     * <br><br>
+     * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<Stream<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo()));
+     * }</pre>
+     *
+     * @param mapper a transformation to be performed in parallel
+     * @param <T>    the type of the collected elements
+     * @param <R>    the result returned by {@code mapper}
+     *
+     * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> parallel(Function<T, R> mapper) {
+        return parallel(mapper, VirtualThreads.defaultParallelism());
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on virtual threads
+     * and returning them as {@link CompletableFuture} containing a {@link Stream} of these elements.
+     *
+     * <br><br>
+     * Each task runs on a new virtual thread (or on a shared pool of daemon threads on runtimes without virtual threads support)
+     * and no dispatcher thread is started.
+     *
+     * <br><br>
+     * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<Stream<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(), 1000));
+     * }</pre>
+     *
+     * @param mapper      a transformation to be performed in parallel
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the collected elements
+     * @param <R>         the result returned by {@code mapper}
+     *
+     * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> parallel(Function<T, R> mapper, int parallelism) {
+        return AsyncParallelCollector.collectingToStream(mapper, VirtualThreads.executor(), parallelism);
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on virtual threads
+     * and returning a {@link Stream} instance returning results as they arrive.
+     *
+     * <br><br>
+     * Each task runs on a new virtual thread (or on a shared pool of daemon threads on runtimes without virtual threads support)
+     * and no dispatcher thread is started. The max parallelism level defaults to {@code 256}, which suits IO-bound transformations.
+     * Without virtual threads support, it defaults to the number of available processors minus one (but at least 4) instead,
+     * since each task occupies a platform thread.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Stream.of(1, 2, 3)
+     *   .collect(parallelToStream(i -> foo()))
+     *   .forEach(System.out::println);
+     * }</pre>
+     *
+     * @param mapper a transformation to be performed in parallel
+     * @param <T>    the type of the collected elements
+     * @param <R>    the result returned by {@code mapper}
+     *
+     * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R> Collector<T, ?, Stream<R>> parallelToStream(Function<T, R> mapper) {
+        return parallelToStream(mapper, VirtualThreads.defaultParallelism());
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on virtual threads
+     * and returning a {@link Stream} instance returning results as they arrive.
+     *
+     * <br><br>
+     * Each task runs on a new virtual thread (or on a shared pool of daemon threads on runtimes without virtual threads support)
+     * and no dispatcher thread is started.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Stream.of(1, 2, 3)
+     *   .collect(parallelToStream(i -> foo(), 1000))
+     *   .forEach(System.out::println);
+     * }</pre>
+     *
+     * @param mapper      a transformation to be performed in parallel
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the collected elements
+     * @param <R>         the result returned by {@code mapper}
+     *
+     * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R> Collector<T, ?, Stream<R>> parallelToStream(Function<T, R> mapper, int parallelism) {
+        return ParallelStreamCollector.streaming(mapper, VirtualThreads.executor(), parallelism);
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on virtual threads
+     * and returning a {@link Stream} instance returning results in the original order.
+     *
+     * <br><br>
+     * Each task runs on a new virtual thread (or on a shared pool of daemon threads on runtimes without virtual threads support)
+     * and no dispatcher thread is started. The max parallelism level defaults to {@code 256}, which suits IO-bound transformations.
+     * Without virtual threads support, it defaults to the number of available processors minus one (but at least 4) instead,
+     * since each task occupies a platform thread.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Stream.of(1, 2, 3)
+     *   .collect(parallelToOrderedStream(i -> foo()))
+     *   .forEach(System.out::println);
+     * }</pre>
+     *
+     * @param mapper a transformation to be performed in parallel
+     * @param <T>    the type of the collected elements
+     * @param <R>    the result returned by {@code mapper}
+     *
+     * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R> Collector<T, ?, Stream<R>> parallelToOrderedStream(Function<T, R> mapper) {
+        return parallelToOrderedStream(mapper, VirtualThreads.defaultParallelism());
+    }
+
+    /**
+     * A convenience {@link Collector} used for executing parallel computations on virtual threads
+     * and returning a {@link Stream} instance returning results in the original order.
+     *
+     * <br><br>
+     * Each task runs on a new virtual thread (or on a shared pool of daemon threads on runtimes without virtual threads support)
+     * and no dispatcher thread is started.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Stream.of(1, 2, 3)
+     *   .collect(parallelToOrderedStream(i -> foo(), 1000))
+     *   .forEach(System.out::println);
+     * }</pre>
+     *
+     * @param mapper      a transformation to be performed in parallel
+     * @param parallelism the max parallelism level
+     * @param <T>         the type of the collected elements
+     * @param <R>         the result returned by {@code mapper}
+     *
+     * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+     *
+     * @since 2.6.0
+     */
+    public static <T, R> Collector<T, ?, Stream<R>> parallelToOrderedStream(Function<T, R> mapper, int parallelism) {
+        return ParallelStreamCollector.streamingOrdered(mapper, VirtualThreads.executor(), parallelism);
+    }
+
+    /**
+     * A convenience {@code Collector} for collecting a {@code Stream<CompletableFuture<T>>}
+     * into a {@code CompletableFuture<R>} using a provided {@code Collector<T, ?, R>}
+     *
+     * @param collector the {@code Collector} describing the reduction
+     * @param <T>       the type of the collected elements
+     * @param <R>       the result of the transformation
+     *
+     * @return a {@code Collector} which collects all futures and combines them into a single future
+     * using the provided downstream {@code Collector}
+     *
+     * @since 2.3.0
+     */
+    public static <T, R> Collector<CompletableFuture<T>, ?, CompletableFuture<R>> toFuture(Collector<T, ?, R> collector) {
+        return FutureCollectors.toFuture(collector);
+    }
+
+    /**
+     * A convenience {@code Collector} for collecting a {@code Stream<CompletableFuture<T>>} into a {@code CompletableFuture<List<T>>}
+     *
+     * @param <T> the type of the collected elements
+     *
+     * @return a {@code Collector} which collects all futures and combines them into a single future
+     * returning a list of results
+     *
+     * @since 2.3.0
+     */
+    public static <T> Collector<CompletableFuture<T>, ?, CompletableFuture<List<T>>> toFuture() {
+        return FutureCollectors.toFuture();
+    }
+
+    /**
+     * Wraps the provided {@link Executor} so that parallel collectors using it hand off tasks directly
+     * from the submitting thread (and from threads completing previous tasks) instead of spawning a dedicated dispatcher thread per collection.
+     *
+     * <br><br>
+     * This trades the isolation of a dedicated dispatcher thread for lower per-collection overhead, which pays off
+     * when executing a high number of short-lived collections. The returned instance is stateless and can be reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Executor direct = ParallelCollectors.directDispatching(executor);
+     *
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), direct, 2));
+     * }</pre>
+     *
+     * @param executor the {@code Executor} to use for asynchronous execution
+     *
+     * @return an {@code Executor} instructing parallel collectors to dispatch tasks without a dedicated dispatcher thread
+     *
+     * @since 2.6.0
+     */
+    public static Executor directDispatching(Executor executor) {
+        return DirectDispatchingExecutor.of(executor);
+    }
+
+    /**
+     * Creates a long-lived dispatcher for the provided {@link Executor} which can be shared by many parallel collectors.
+     *
+     * <br><br>
+     * All collections using the returned instance are dispatched by a single shared dispatcher thread instead of spawning
+     * a dedicated one per collection. Each collection still respects its own parallelism level.
+     * The shared dispatcher thread is started lazily and terminates when idle.
+     *
+     * <br><br>
+     * The returned instance is meant to be created once per {@code Executor} and reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Executor dispatcher = ParallelCollectors.sharedDispatcher(executor);
+     *
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), dispatcher, 2));
+     * }</pre>
+     *
+     * @param executor the {@code Executor} to use for asynchronous execution
+     *
+     * @return an {@code Executor} multiplexing dispatching of all parallel collectors using it
+     *
+     * @since 2.6.0
+     */
+    public static Executor sharedDispatcher(Executor executor) {
+        return SharedDispatcher.of(executor);
+    }
+
+    /**
+     * Creates a long-lived dispatcher for the provided {@link Executor} which can be shared by many parallel collectors
+     * and which caps the total number of tasks in flight across all of them.
+     *
+     * <br><br>
+     * Each collection still respects its own parallelism level, while the shared concurrency budget is handed out
+     * to tasks waiting for it in the order they asked for it. Since each collection asks for it one task at a time,
+     * collections waiting for it are served in a round-robin fashion, and a collection waiting for it never holds up
+     * the shared dispatcher thread.
+     *
+     * <br><br>
+     * The returned instance is meant to be created once per protected resource and reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Executor dispatcher = ParallelCollectors.sharedDispatcher(executor, 64);
+     *
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), dispatcher, 16));
+     * }</pre>
+     *
+     * @param executor       the {@code Executor} to use for asynchronous execution
+     * @param maxConcurrency the max number of tasks in flight across all collections sharing the dispatcher
+     *
+     * @return an {@code Executor} multiplexing dispatching of all parallel collectors using it
+     *
+     * @since 2.6.0
+     */
+    public static Executor sharedDispatcher(Executor executor, int maxConcurrency) {
+        return SharedDispatcher.of(executor, maxConcurrency);
+    }
+
+    /**
+     * Wraps the provided {@link Executor} so that parallel collectors using it start no more than {@code permitsPerSecond} tasks per second,
+     * on top of their parallelism limits.
+     *
+     * <br><br>
+     * The rate is enforced by a token bucket when tasks are dispatched: each task takes a single token, tokens are refilled at
+     * a constant rate, and up to {@code burst} unused tokens can be accumulated and spent at once. Tasks waiting for a token hold
+     * their parallelism permits, but never block the {@code Executor} threads. With {@link Batching} collectors, each batch takes a single token.
+     *
+     * <br><br>
+     * All collections using the returned instance share the same rate limit, so it's meant to be created once per protected resource and reused.
+     * It can be combined with {@link #directDispatching(Executor)} and {@link #sharedDispatcher(Executor, int)} in any order.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Executor rateLimited = ParallelCollectors.rateLimited(executor, 100, 10);
+     *
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), rateLimited, 16));
+     * }</pre>
+     *
+     * @param executor         the {@code Executor} to use for asynchronous execution
+     * @param permitsPerSecond the max number of tasks started per second
+     * @param burst            the max number of tasks that can be started at once after a period of inactivity
+     *
+     * @return an {@code Executor} instructing parallel collectors to respect the provided rate limit
+     *
+     * @since 2.6.0
+     */
+    public static Executor rateLimited(Executor executor, int permitsPerSecond, int burst) {
+        return RateLimitedExecutor.of(executor, permitsPerSecond, burst);
+    }
+
+    /**
+     * Wraps the provided {@link Executor} so that parallel collectors using it start no more than {@code permitsPerSecond} tasks per second,
+     * evenly spaced in time, on top of their parallelism limits.
+     *
+     * <br><br>
+     * All collections using the returned instance share the same rate limit, so it's meant to be created once per protected resource and reused.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Executor rateLimited = ParallelCollectors.rateLimited(executor, 100);
+     *
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), rateLimited, 16));
+     * }</pre>
+     *
+     * @param executor         the {@code Executor} to use for asynchronous execution
+     * @param permitsPerSecond the max number of tasks started per second
+     *
+     * @return an {@code Executor} instructing parallel collectors to respect the provided rate limit
+     *
+     * @see #rateLimited(Executor, int, int)
+     *
+     * @since 2.6.0
+     */
+    public static Executor rateLimited(Executor executor, int permitsPerSecond) {
+        return RateLimitedExecutor.of(executor, permitsPerSecond, 1);
+    }
+
+    /**
+     * Wraps the provided {@link Executor} so that parallel collectors using it tune their parallelism at runtime based on observed task latency.
+     *
+     * <br><br>
+     * The limit starts at {@code maxParallelism} and uses additive-increase/multiplicative-decrease: it shrinks by 10% once a task
+     * takes more than twice as long as the moving average, and grows back by one permit per limit's worth of tasks completing in time,
+     * but never goes beyond {@code [minParallelism, maxParallelism]}. It's shared by all collections using the returned instance -
+     * it caps the number of their tasks in flight altogether and carries over from one collection to the next, while each collection
+     * is still capped by its own parallelism level.
+     *
+     * <br><br>
+     * It can be combined with {@link #directDispatching(Executor)}, {@link #sharedDispatcher(Executor)} and {@link #rateLimited(Executor, int, int)} in any order.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Executor adaptive = ParallelCollectors.adaptiveConcurrency(executor, 4, 64, limit -> metrics.gauge("limit", limit));
+     *
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), adaptive, 64));
+     * }</pre>
+     *
+     * @param executor       the {@code Executor} to use for asynchronous execution
+     * @param minParallelism the lowest parallelism level the limit can shrink to
+     * @param maxParallelism the highest parallelism level the limit can grow to
+     * @param limitListener  notified with the current limit every time it changes, on the thread completing a task - should be cheap and non-blocking.
+     *                       It's the only way to observe the limit, which starts at {@code maxParallelism}
+     *
+     * @return an {@code Executor} instructing parallel collectors to adapt their parallelism level
+     *
+     * @since 2.6.0
+     */
+    public static Executor adaptiveConcurrency(Executor executor, int minParallelism, int maxParallelism, IntConsumer limitListener) {
+        return AdaptiveLimitExecutor.of(executor, minParallelism, maxParallelism, limitListener);
+    }
+
+    /**
+     * Wraps the provided {@link Executor} so that parallel collectors using it tune their parallelism at runtime based on observed task latency.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), adaptiveConcurrency(executor, 4, 64), 64));
+     * }</pre>
+     *
+     * @param executor       the {@code Executor} to use for asynchronous execution
+     * @param minParallelism the lowest parallelism level the limit can shrink to
+     * @param maxParallelism the highest parallelism level the limit can grow to
+     *
+     * @return an {@code Executor} instructing parallel collectors to adapt their parallelism level
+     *
+     * @see #adaptiveConcurrency(Executor, int, int, IntConsumer)
+     *
+     * @since 2.6.0
+     */
+    public static Executor adaptiveConcurrency(Executor executor, int minParallelism, int maxParallelism) {
+        return AdaptiveLimitExecutor.of(executor, minParallelism, maxParallelism, __ -> {});
+    }
+
+    /**
+     * Wraps the provided {@link Executor} so that parallel collectors using it start a duplicate attempt of each task
+     * still running after {@code delay}, and complete the task with whichever attempt finishes first. Meant for idempotent mappers only.
+     *
+     * <br><br>
+     * Duplicate attempts don't count against the parallelism level of a collection. Instead, no more than {@code maxHedges} of them
+     * run at a time across all collections using the returned instance. A failed duplicate attempt is ignored.
+     * <p>
+     * Collectors whose tasks have side effects never run a task more than once, so their tasks are neither hedged nor retried:
+     * {@code parallelFolding}, {@code parallelGroupingBy}, {@code parallelByKey}, {@code Batching.parallelAdaptive}, and {@code Batching}
+     * collectors writing results into a preallocated buffer - {@code parallel} without a batch size, {@code parallelToList},
+     * {@code parallelOutcomes}, {@code parallelToIntStream}, {@code parallelToLongStream} and {@code parallelToDoubleStream}.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Executor hedged = hedged(executor, Duration.ofMillis(100), 4); // created once
+     *
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), hedged, 16));
+     * }</pre>
+     *
+     * @param executor  the {@code Executor} to use for asynchronous execution
+     * @param delay     the time after which a duplicate attempt of a task is started
+     * @param maxHedges the max number of duplicate attempts running at a time
+     *
+     * @return an {@code Executor} instructing parallel collectors to hedge slow tasks
+     *
+     * @since 2.6.0
+     */
+    public static Executor hedged(Executor executor, Duration delay, int maxHedges) {
+        return HedgingExecutor.of(executor, delay, maxHedges);
+    }
+
+    /**
+     * Wraps the provided {@link Executor} so that parallel collectors using it start a duplicate attempt of each task
+     * running longer than 95% of recently completed tasks, and complete the task with whichever attempt finishes first.
+     * Meant for idempotent mappers only.
+     *
+     * <br><br>
+     * Latencies are observed across all collections using the returned instance, so it should be created once and reused.
+     * No task is hedged until 20 tasks have completed.
+     *
+     * <br><br>
+     * Duplicate attempts don't count against the parallelism level of a collection. Instead, no more than {@code maxHedges} of them
+     * run at a time across all collections using the returned instance. A failed duplicate attempt is ignored.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * Executor hedged = hedged(executor, 4); // created once
+     *
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), hedged, 16));
+     * }</pre>
+     *
+     * @param executor  the {@code Executor} to use for asynchronous execution
+     * @param maxHedges the max number of duplicate attempts running at a time
+     *
+     * @return an {@code Executor} instructing parallel collectors to hedge slow tasks
+     *
+     * @see #hedged(Executor, Duration, int)
+     *
+     * @since 2.6.0
+     */
+    public static Executor hedged(Executor executor, int maxHedges) {
+        return HedgingExecutor.estimating(executor, maxHedges);
+    }
+
+    /**
+     * Wraps the provided {@link Executor} so that parallel collectors using it retry tasks failing with an exception
+     * matching {@code retryOn}, instead of failing the whole collection right away.
+     *
+     * <br><br>
+     * A failed task is put back into the queue of its collection once the backoff elapses. The backoff doubles with every attempt,
+     * starting from {@code initialBackoff} up to {@code maxBackoff}, and half of it is randomized. Neither a thread nor a parallelism permit
+     * is held during the backoff. Once the last attempt fails, the collection fails as usual.
+     * Tasks of collectors listed in {@link #hedged(Executor, Duration, int)} as having side effects are never retried.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), retrying(executor, 3, Duration.ofMillis(100), Duration.ofSeconds(1), e -> e instanceof IOException), 16));
+     * }</pre>
+     *
+     * @param executor       the {@code Executor} to use for asynchronous execution
+     * @param maxAttempts    the max number of attempts of a single task, including the first one
+     * @param initialBackoff the time to wait before the first retry
+     * @param maxBackoff     the max time to wait before a retry
+     * @param retryOn        decides whether a task failing with a given exception should be retried
+     *
+     * @return an {@code Executor} instructing parallel collectors to retry failed tasks
+     *
+     * @since 2.6.0
+     */
+    public static Executor retrying(Executor executor, int maxAttempts, Duration initialBackoff, Duration maxBackoff, Predicate<Throwable> retryOn) {
+        return RetryingExecutor.of(executor, maxAttempts, initialBackoff, maxBackoff, retryOn);
+    }
+
+    /**
+     * Wraps the provided {@link Executor} so that parallel collectors using it retry tasks failing with an {@link Exception},
+     * instead of failing the whole collection right away.
+     *
+     * <br>
+     * Example:
+     * <pre>{@code
+     * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+     *   .collect(parallel(i -> foo(i), toList(), retrying(executor, 3, Duration.ofMillis(100), Duration.ofSeconds(1)), 16));
+     * }</pre>
+     *
+     * @param executor       the {@code Executor} to use for asynchronous execution
+     * @param maxAttempts    the max number of attempts of a single task, including the first one
+     * @param initialBackoff the time to wait before the first retry
+     * @param maxBackoff     the max time to wait before a retry
+     *
+     * @return an {@code Executor} instructing parallel collectors to retry failed tasks
+     *
+     * @see #retrying(Executor, int, Duration, Duration, Predicate)
+     *
+     * @since 2.6.0
+     */
+    public static Executor retrying(Executor executor, int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        return RetryingExecutor.of(executor, maxAttempts, initialBackoff, maxBackoff, e -> e instanceof Exception);
+    }
+
+    /**
+     * A subset of collectors which perform operations in batches and not separately (one object in a thread pool's worker queue represents a batch of operations to be performed by a single thread)
+     */
+    public static final class Batching {
+
+        private Batching() {
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+         *   .collect(parallel(i -> foo(i), toList(), executor, 2));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param collector   the {@code Collector} describing the reduction
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         * @param <RR>        the reduction result {@code collector}
+         *
+         * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+         *
+         * @since 2.1.0
+         */
+        public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallel(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors
+              .collectingWithCollector(collector, mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as {@link CompletableFuture} containing a {@link Stream} of these elements.
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<Stream<String>> result = Stream.of(1, 2, 3)
+         *   .collect(parallel(i -> foo(), executor, 2));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         *
+         * @since 2.1.0
+         */
+        public static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> parallel(Function<T, R> mapper, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors.collectingToStream(mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning a {@link Stream} instance returning results as they arrive.
+         * <p>
+         * For the parallelism of 1, the stream is executed by the calling thread.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * Stream.of(1, 2, 3)
+         *   .collect(parallelToStream(i -> foo(), executor, 2))
+         *   .forEach(System.out::println);
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         *
+         * @since 2.1.0
+         */
+        public static <T, R> Collector<T, ?, Stream<R>> parallelToStream(Function<T, R> mapper, Executor executor, int parallelism) {
+            return ParallelStreamCollector.BatchingCollectors.streaming(mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning a {@link Stream} instance returning results as they arrive while maintaining the initial order.
+         * <p>
+         * For the parallelism of 1, the stream is executed by the calling thread.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * Stream.of(1, 2, 3)
+         *   .collect(parallelToOrderedStream(i -> foo(), executor, 2))
+         *   .forEach(System.out::println);
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         *
+         * @since 2.1.0
+         */
+        public static <T, R> Collector<T, ?, Stream<R>> parallelToOrderedStream(Function<T, R> mapper, Executor executor, int parallelism) {
+            return ParallelStreamCollector.BatchingCollectors.streamingOrdered(mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+         *
+         * <br><br>
+         * Instead of splitting the input into {@code parallelism} equal batches, elements are grouped into batches of at most {@code batchSize} elements,
+         * which are dispatched as soon as they're formed. Many small batches allow idle threads to pick up remaining work
+         * when processing time varies between elements, while the parallelism level stays capped.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+         *   .collect(parallel(i -> foo(i), toList(), executor, 2, 100));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param collector   the {@code Collector} describing the reduction
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level - the max number of batches processed at a time
+         * @param batchSize   the max number of elements in a single batch - not the number of batches
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         * @param <RR>        the reduction result {@code collector}
+         *
+         * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallel(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism, int batchSize) {
+            return AsyncParallelCollector.BatchingCollectors
+              .collectingWithCollector(collector, mapper, executor, parallelism, batchSize);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as {@link CompletableFuture} containing a {@link Stream} of these elements.
+         *
+         * <br><br>
+         * Instead of splitting the input into {@code parallelism} equal batches, elements are grouped into batches of at most {@code batchSize} elements,
+         * which are dispatched as soon as they're formed.
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<Stream<String>> result = Stream.of(1, 2, 3)
+         *   .collect(parallel(i -> foo(), executor, 2, 100));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level - the max number of batches processed at a time
+         * @param batchSize   the max number of elements in a single batch - not the number of batches
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> parallel(Function<T, R> mapper, Executor executor, int parallelism, int batchSize) {
+            return AsyncParallelCollector.BatchingCollectors.collectingToStream(mapper, executor, parallelism, batchSize);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning a {@link Stream} instance returning results as they arrive.
+         *
+         * <br><br>
+         * Instead of splitting the input into {@code parallelism} equal batches, elements are grouped into batches of at most {@code batchSize} elements,
+         * which are dispatched as soon as they're formed.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * Stream.of(1, 2, 3)
+         *   .collect(parallelToStream(i -> foo(), executor, 2, 100))
+         *   .forEach(System.out::println);
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level - the max number of batches processed at a time
+         * @param batchSize   the max number of elements in a single batch - not the number of batches
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R> Collector<T, ?, Stream<R>> parallelToStream(Function<T, R> mapper, Executor executor, int parallelism, int batchSize) {
+            return ParallelStreamCollector.BatchingCollectors.streaming(mapper, executor, parallelism, batchSize);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning a {@link Stream} instance returning results as they arrive while maintaining the initial order.
+         *
+         * <br><br>
+         * Instead of splitting the input into {@code parallelism} equal batches, elements are grouped into batches of at most {@code batchSize} elements,
+         * which are dispatched as soon as they're formed.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * Stream.of(1, 2, 3)
+         *   .collect(parallelToOrderedStream(i -> foo(), executor, 2, 100))
+         *   .forEach(System.out::println);
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level - the max number of batches processed at a time
+         * @param batchSize   the max number of elements in a single batch - not the number of batches
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R> Collector<T, ?, Stream<R>> parallelToOrderedStream(Function<T, R> mapper, Executor executor, int parallelism, int batchSize) {
+            return ParallelStreamCollector.BatchingCollectors.streamingOrdered(mapper, executor, parallelism, batchSize);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+         *
+         * <br><br>
+         * Instead of materializing the whole input first, elements are grouped into batches as they arrive and each batch
+         * is dispatched as soon as it reaches {@code batchSize} elements or when {@code maxBatchDelay} elapses since its first element arrived.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+         *   .collect(parallel(i -> foo(i), toList(), executor, 2, 100, Duration.ofMillis(50)));
+         * }</pre>
+         *
+         * @param mapper        a transformation to be performed in parallel
+         * @param collector     the {@code Collector} describing the reduction
+         * @param executor      the {@code Executor} to use for asynchronous execution
+         * @param parallelism   the max parallelism level - the max number of batches processed at a time
+         * @param batchSize     the max number of elements in a single batch - not the number of batches
+         * @param maxBatchDelay the max time an incomplete batch waits for more elements before getting dispatched
+         * @param <T>           the type of the collected elements
+         * @param <R>           the result returned by {@code mapper}
+         * @param <RR>          the reduction result {@code collector}
+         *
+         * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallel(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay) {
+            return AsyncParallelCollector.BatchingCollectors
+              .collectingWithCollector(collector, mapper, executor, parallelism, batchSize, maxBatchDelay);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as {@link CompletableFuture} containing a {@link Stream} of these elements.
+         *
+         * <br><br>
+         * Instead of materializing the whole input first, elements are grouped into batches as they arrive and each batch
+         * is dispatched as soon as it reaches {@code batchSize} elements or when {@code maxBatchDelay} elapses since its first element arrived.
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<Stream<String>> result = Stream.of(1, 2, 3)
+         *   .collect(parallel(i -> foo(), executor, 2, 100, Duration.ofMillis(50)));
+         * }</pre>
+         *
+         * @param mapper        a transformation to be performed in parallel
+         * @param executor      the {@code Executor} to use for asynchronous execution
+         * @param parallelism   the max parallelism level - the max number of batches processed at a time
+         * @param batchSize     the max number of elements in a single batch - not the number of batches
+         * @param maxBatchDelay the max time an incomplete batch waits for more elements before getting dispatched
+         * @param <T>           the type of the collected elements
+         * @param <R>           the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> parallel(Function<T, R> mapper, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay) {
+            return AsyncParallelCollector.BatchingCollectors.collectingToStream(mapper, executor, parallelism, batchSize, maxBatchDelay);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning a {@link Stream} instance returning results as they arrive.
+         *
+         * <br><br>
+         * Instead of materializing the whole input first, elements are grouped into batches as they arrive and each batch
+         * is dispatched as soon as it reaches {@code batchSize} elements or when {@code maxBatchDelay} elapses since its first element arrived.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
          * Stream.of(1, 2, 3)
-         *   .collect(parallelToStream(i -> foo(), executor, 2))
+         *   .collect(parallelToStream(i -> foo(), executor, 2, 100, Duration.ofMillis(50)))
+         *   .forEach(System.out::println);
+         * }</pre>
+         *
+         * @param mapper        a transformation to be performed in parallel
+         * @param executor      the {@code Executor} to use for asynchronous execution
+         * @param parallelism   the max parallelism level - the max number of batches processed at a time
+         * @param batchSize     the max number of elements in a single batch - not the number of batches
+         * @param maxBatchDelay the max time an incomplete batch waits for more elements before getting dispatched
+         * @param <T>           the type of the collected elements
+         * @param <R>           the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R> Collector<T, ?, Stream<R>> parallelToStream(Function<T, R> mapper, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay) {
+            return ParallelStreamCollector.BatchingCollectors.streaming(mapper, executor, parallelism, batchSize, maxBatchDelay);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning a {@link Stream} instance returning results as they arrive while maintaining the initial order.
+         *
+         * <br><br>
+         * Instead of materializing the whole input first, elements are grouped into batches as they arrive and each batch
+         * is dispatched as soon as it reaches {@code batchSize} elements or when {@code maxBatchDelay} elapses since its first element arrived.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * Stream.of(1, 2, 3)
+         *   .collect(parallelToOrderedStream(i -> foo(), executor, 2, 100, Duration.ofMillis(50)))
          *   .forEach(System.out::println);
          * }</pre>
          *
+         * @param mapper        a transformation to be performed in parallel
+         * @param executor      the {@code Executor} to use for asynchronous execution
+         * @param parallelism   the max parallelism level - the max number of batches processed at a time
+         * @param batchSize     the max number of elements in a single batch - not the number of batches
+         * @param maxBatchDelay the max time an incomplete batch waits for more elements before getting dispatched
+         * @param <T>           the type of the collected elements
+         * @param <R>           the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R> Collector<T, ?, Stream<R>> parallelToOrderedStream(Function<T, R> mapper, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay) {
+            return ParallelStreamCollector.BatchingCollectors.streamingOrdered(mapper, executor, parallelism, batchSize, maxBatchDelay);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+         *
+         * <br><br>
+         * Instead of splitting the input into equal batches upfront, {@code parallelism} workers claim consecutive chunks of the input
+         * from a shared cursor, and the chunk size shrinks as the remaining work drains (guided self-scheduling).
+         * This makes it a good fit for workloads with skewed processing times, where a few slow elements would otherwise
+         * leave most threads idle while a single batch finishes.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+         *   .collect(parallelAdaptive(i -> foo(i), toList(), executor, 2));
+         * }</pre>
+         *
          * @param mapper      a transformation to be performed in parallel
+         * @param collector   the {@code Collector} describing the reduction
          * @param executor    the {@code Executor} to use for asynchronous execution
          * @param parallelism the max parallelism level
          * @param <T>         the type of the collected elements
          * @param <R>         the result returned by {@code mapper}
+         * @param <RR>        the reduction result {@code collector}
          *
-         * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
+         * @return a {@code Collector} which collects all processed elements into a user-provided mutable {@code Collection} in parallel
          *
-         * @since 2.1.0
+         * @since 2.6.0
          */
-        public static <T, R> Collector<T, ?, Stream<R>> parallelToStream(Function<T, R> mapper, Executor executor, int parallelism) {
-            return ParallelStreamCollector.BatchingCollectors.streaming(mapper, executor, parallelism);
+        public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallelAdaptive(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors
+              .collectingWithCollectorAdaptively(collector, mapper, executor, parallelism);
         }
 
         /**
          * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
-         * and returning a {@link Stream} instance returning results as they arrive while maintaining the initial order.
-         * <p>
-         * For the parallelism of 1, the stream is executed by the calling thread.
+         * and returning them as a {@link CompletableFuture} containing a result of the application of the user-provided {@link Collector}.
+         *
+         * <br><br>
+         * The input is split into {@code parallelism} batches, each of them accumulating its results into a partial container
+         * of the provided {@link Collector} on a worker thread. Partial containers are then merged using the {@link Collector#combiner()},
+         * so the downstream reduction runs in parallel instead of on a single thread after all elements are processed.
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
          *
          * <br>
          * Example:
          * <pre>{@code
-         * Stream.of(1, 2, 3)
-         *   .collect(parallelToOrderedStream(i -> foo(), executor, 2))
-         *   .forEach(System.out::println);
+         * CompletableFuture<Map<Integer, List<String>>> result = Stream.of(1, 2, 3)
+         *   .collect(parallelCombining(i -> foo(i), groupingBy(String::length), executor, 2));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param collector   the {@code Collector} describing the reduction
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         * @param <RR>        the reduction result {@code collector}
+         *
+         * @return a {@code Collector} which reduces all processed elements using the user-provided {@code Collector} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R, RR> Collector<T, ?, CompletableFuture<RR>> parallelCombining(Function<T, R> mapper, Collector<R, ?, RR> collector, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors
+              .collectingWithCollectorCombining(collector, mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as {@link CompletableFuture} containing a {@link Stream} of these elements.
+         *
+         * <br><br>
+         * Instead of splitting the input into equal batches upfront, {@code parallelism} workers claim consecutive chunks of the input
+         * from a shared cursor, and the chunk size shrinks as the remaining work drains (guided self-scheduling).
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<Stream<String>> result = Stream.of(1, 2, 3)
+         *   .collect(parallelAdaptive(i -> foo(), executor, 2));
          * }</pre>
          *
          * @param mapper      a transformation to be performed in parallel
@@ -401,10 +1755,168 @@ public final class ParallelCollectors {
          *
          * @return a {@code Collector} which collects all processed elements into a {@code Stream} in parallel
          *
-         * @since 2.1.0
+         * @since 2.6.0
          */
-        public static <T, R> Collector<T, ?, Stream<R>> parallelToOrderedStream(Function<T, R> mapper, Executor executor, int parallelism) {
-            return ParallelStreamCollector.BatchingCollectors.streamingOrdered(mapper, executor, parallelism);
+        public static <T, R> Collector<T, ?, CompletableFuture<Stream<R>>> parallelAdaptive(Function<T, R> mapper, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors.collectingToStreamAdaptively(mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as {@link CompletableFuture} containing a {@link List} of these elements.
+         *
+         * <br><br>
+         * The input is split into {@code parallelism} contiguous ranges, each of them writing results straight into its slice
+         * of a single preallocated array which is then returned as a fixed-size {@code List} without any copying.
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<List<String>> result = Stream.of(1, 2, 3)
+         *   .collect(parallelToList(i -> foo(i), executor, 2));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects all processed elements into a fixed-size {@code List} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R> Collector<T, ?, CompletableFuture<List<R>>> parallelToList(Function<T, R> mapper, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors.collectingToList(mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as {@link CompletableFuture} containing a {@link List} of outcomes of processing each element.
+         *
+         * <br><br>
+         * The input is split into {@code parallelism} contiguous ranges. A failing element doesn't stop processing of the remaining
+         * elements of its range, so successful results never need to be computed again. The outcome of each element
+         * is a {@code CompletableFuture} completed either with the result or with the failure.
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<List<CompletableFuture<String>>> result = Stream.of(1, 2, 3)
+         *   .collect(parallelOutcomes(i -> foo(i), executor, 2));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         * @param <R>         the result returned by {@code mapper}
+         *
+         * @return a {@code Collector} which collects outcomes of processing all elements in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T, R> Collector<T, ?, CompletableFuture<List<CompletableFuture<R>>>> parallelOutcomes(Function<T, R> mapper, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors.collectingToOutcomes(mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as {@link CompletableFuture} containing a {@link IntStream} of these elements.
+         *
+         * <br><br>
+         * The input is split into {@code parallelism} batches, each of them writing results straight into a shared primitive buffer,
+         * so no boxing or per-element futures are involved.
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<IntStream> result = Stream.of("1", "2", "3")
+         *   .collect(parallelToIntStream(Integer::parseInt, executor, 2));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code IntStream} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T> Collector<T, ?, CompletableFuture<IntStream>> parallelToIntStream(ToIntFunction<T> mapper, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors.collectingToIntStream(mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as {@link CompletableFuture} containing a {@link LongStream} of these elements.
+         *
+         * <br><br>
+         * The input is split into {@code parallelism} batches, each of them writing results straight into a shared primitive buffer,
+         * so no boxing or per-element futures are involved.
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<LongStream> result = Stream.of("1", "2", "3")
+         *   .collect(parallelToLongStream(Long::parseLong, executor, 2));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code LongStream} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T> Collector<T, ?, CompletableFuture<LongStream>> parallelToLongStream(ToLongFunction<T> mapper, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors.collectingToLongStream(mapper, executor, parallelism);
+        }
+
+        /**
+         * A convenience {@link Collector} used for executing parallel computations on a custom {@link Executor}
+         * and returning them as {@link CompletableFuture} containing a {@link DoubleStream} of these elements.
+         *
+         * <br><br>
+         * The input is split into {@code parallelism} batches, each of them writing results straight into a shared primitive buffer,
+         * so no boxing or per-element futures are involved.
+         *
+         * <br><br>
+         * The collector maintains the order of processed {@link Stream}. Instances should not be reused.
+         *
+         * <br>
+         * Example:
+         * <pre>{@code
+         * CompletableFuture<DoubleStream> result = Stream.of("1", "2", "3")
+         *   .collect(parallelToDoubleStream(Double::parseDouble, executor, 2));
+         * }</pre>
+         *
+         * @param mapper      a transformation to be performed in parallel
+         * @param executor    the {@code Executor} to use for asynchronous execution
+         * @param parallelism the max parallelism level
+         * @param <T>         the type of the collected elements
+         *
+         * @return a {@code Collector} which collects all processed elements into a {@code DoubleStream} in parallel
+         *
+         * @since 2.6.0
+         */
+        public static <T> Collector<T, ?, CompletableFuture<DoubleStream>> parallelToDoubleStream(ToDoubleFunction<T> mapper, Executor executor, int parallelism) {
+            return AsyncParallelCollector.BatchingCollectors.collectingToDoubleStream(mapper, executor, parallelism);
         }
     }
 }
@@ -1,7 +1,9 @@
 package com.pivovarit.collectors;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -15,6 +17,9 @@ import java.util.stream.Stream;
 import static com.pivovarit.collectors.AsyncParallelCollector.requireValidParallelism;
 import static com.pivovarit.collectors.BatchingSpliterator.batching;
 import static com.pivovarit.collectors.BatchingSpliterator.partitioned;
+import static com.pivovarit.collectors.ChunkingCollector.chunked;
+import static com.pivovarit.collectors.ChunkingCollector.requireValidBatchDelay;
+import static com.pivovarit.collectors.ChunkingCollector.requireValidBatchSize;
 import static com.pivovarit.collectors.CompletionStrategy.ordered;
 import static com.pivovarit.collectors.CompletionStrategy.unordered;
 import static com.pivovarit.collectors.Dispatcher.getDefaultParallelism;
@@ -109,6 +114,18 @@ class ParallelStreamCollector<T, R> implements Collector<T, Stream.Builder<Compl
         return new ParallelStreamCollector<>(mapper, ordered(), emptySet(), Dispatcher.of(executor, parallelism));
     }
 
+    static <T, R> Collector<T, ?, Stream<R>> streamingOrdered(Function<T, R> mapper, Executor executor, int parallelism, int maxLookahead) {
+        requireNonNull(executor, "executor can't be null");
+        requireNonNull(mapper, "mapper can't be null");
+        requireValidParallelism(parallelism);
+        if (maxLookahead < parallelism) {
+            throw new IllegalArgumentException("Max lookahead can't be lower than parallelism");
+        }
+
+        Dispatcher<R> dispatcher = Dispatcher.withLookahead(executor, parallelism, maxLookahead);
+        return new ParallelStreamCollector<>(mapper, ordered(dispatcher::consumed), emptySet(), dispatcher);
+    }
+
     static final class BatchingCollectors {
         private BatchingCollectors() {
         }
@@ -118,7 +135,7 @@ class ParallelStreamCollector<T, R> implements Collector<T, Stream.Builder<Compl
             requireNonNull(mapper, "mapper can't be null");
             requireValidParallelism(parallelism);
 
-            return parallelism == 1
+            return parallelism == 1 && Dispatcher.isBypassable(executor)
               ? syncCollector(mapper)
               : batchingCollector(mapper, executor, parallelism);
         }
@@ -128,11 +145,47 @@ class ParallelStreamCollector<T, R> implements Collector<T, Stream.Builder<Compl
             requireNonNull(mapper, "mapper can't be null");
             requireValidParallelism(parallelism);
 
-            return parallelism == 1
+            return parallelism == 1 && Dispatcher.isBypassable(executor)
               ? syncCollector(mapper)
               : batchingCollector(mapper, executor, parallelism);
         }
 
+        static <T, R> Collector<T, ?, Stream<R>> streaming(Function<T, R> mapper, Executor executor, int parallelism, int batchSize) {
+            return streamingBatchingCollector(mapper, executor, parallelism, batchSize, null, unordered(), UNORDERED);
+        }
+
+        static <T, R> Collector<T, ?, Stream<R>> streamingOrdered(Function<T, R> mapper, Executor executor, int parallelism, int batchSize) {
+            return streamingBatchingCollector(mapper, executor, parallelism, batchSize, null, ordered(), emptySet());
+        }
+
+        static <T, R> Collector<T, ?, Stream<R>> streaming(Function<T, R> mapper, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay) {
+            requireNonNull(maxBatchDelay, "maxBatchDelay can't be null");
+            requireValidBatchDelay(maxBatchDelay);
+
+            return streamingBatchingCollector(mapper, executor, parallelism, batchSize, maxBatchDelay, unordered(), UNORDERED);
+        }
+
+        static <T, R> Collector<T, ?, Stream<R>> streamingOrdered(Function<T, R> mapper, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay) {
+            requireNonNull(maxBatchDelay, "maxBatchDelay can't be null");
+            requireValidBatchDelay(maxBatchDelay);
+
+            return streamingBatchingCollector(mapper, executor, parallelism, batchSize, maxBatchDelay, ordered(), emptySet());
+        }
+
+        private static <T, R> Collector<T, ?, Stream<R>> streamingBatchingCollector(Function<T, R> mapper, Executor executor, int parallelism, int batchSize, Duration maxBatchDelay, CompletionStrategy<List<R>> completionStrategy, Set<Characteristics> characteristics) {
+            requireNonNull(executor, "executor can't be null");
+            requireNonNull(mapper, "mapper can't be null");
+            requireValidParallelism(parallelism);
+            requireValidBatchSize(batchSize);
+
+            return chunked(collectingAndThen(new ParallelStreamCollector<>(
+                batching(mapper),
+                completionStrategy,
+                characteristics,
+                Dispatcher.of(executor, parallelism)),
+              s -> s.flatMap(Collection::stream)), batchSize, maxBatchDelay);
+        }
+
         private static <T, R> Collector<T, ?, Stream<R>> batchingCollector(Function<T, R> mapper, Executor executor, int parallelism) {
             return collectingAndThen(
               toList(),
@@ -0,0 +1,50 @@
+package com.pivovarit.collectors;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link Executor} marker instructing parallel collectors to dispatch tasks no faster than allowed by the {@link RateLimiter}
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class RateLimitedExecutor extends MarkerExecutor {
+
+    private final RateLimiter rateLimiter;
+
+    private RateLimitedExecutor(Executor delegate, RateLimiter rateLimiter) {
+        super(delegate);
+        this.rateLimiter = rateLimiter;
+    }
+
+    static Executor of(Executor executor, int permitsPerSecond, int burst) {
+        requireNonNull(executor, "executor can't be null");
+
+        return new RateLimitedExecutor(executor, new RateLimiter(permitsPerSecond, burst));
+    }
+
+    @Override
+    Executor withDelegate(Executor delegate) {
+        return new RateLimitedExecutor(delegate, rateLimiter);
+    }
+
+    @Override
+    void configure(Dispatcher.Options options) {
+        options.rateLimiter(rateLimiter);
+    }
+
+    /**
+     * Used only when tasks are submitted without a {@link Dispatcher} - the hand-off is delayed on the shared timer instead of blocking the caller
+     */
+    @Override
+    public void execute(Runnable command) {
+        long delay = rateLimiter.reserve();
+        if (delay == 0) {
+            delegate().execute(command);
+        } else {
+            Scheduler.schedule(() -> delegate().execute(command), Duration.ofNanos(delay));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.pivovarit.collectors;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket refilled at a constant rate and holding up to {@code burst} tokens, implemented as a generic cell rate
+ * algorithm - only the theoretical arrival time of the next token is tracked
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class RateLimiter {
+
+    private final LongSupplier clock;
+    private final long interval;
+    private final long tolerance;
+
+    // guarded by this
+    private long theoreticalArrival;
+
+    RateLimiter(int permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    RateLimiter(int permitsPerSecond, int burst, LongSupplier clock) {
+        if (permitsPerSecond < 1) {
+            throw new IllegalArgumentException("Permits per second can't be lower than 1");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst can't be lower than 1");
+        }
+        this.clock = clock;
+        this.interval = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.tolerance = interval * (burst - 1);
+        this.theoreticalArrival = clock.getAsLong() - tolerance;
+    }
+
+    /**
+     * Takes the next token, waiting in line behind previous reservations if the bucket is empty
+     *
+     * @return the number of nanoseconds the caller needs to wait before using the token
+     */
+    synchronized long reserve() {
+        long now = clock.getAsLong();
+        long arrival = theoreticalArrival - now > 0 ? theoreticalArrival : now;
+        theoreticalArrival = arrival + interval;
+        return Math.max(0, arrival - now - tolerance);
+    }
+}
@@ -0,0 +1,56 @@
+package com.pivovarit.collectors;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Decides whether a failed task should be attempted again, and how long to wait before that.
+ * <p>
+ * Backoff grows exponentially from {@code initialBackoff} up to {@code maxBackoff}, with half of each delay randomized
+ * so that tasks failing at the same time don't retry in lockstep.
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final Predicate<Throwable> retryOn;
+
+    RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Predicate<Throwable> retryOn) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts can't be lower than 1");
+        }
+        if (initialBackoff.isNegative() || initialBackoff.isZero()) {
+            throw new IllegalArgumentException("Initial backoff needs to be positive");
+        }
+        if (maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Max backoff can't be lower than initial backoff");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff.toNanos();
+        this.maxBackoff = maxBackoff.toNanos();
+        this.retryOn = retryOn;
+    }
+
+    /**
+     * @param attempt the number of the attempt that failed, starting from 1
+     */
+    boolean shouldRetry(Throwable failure, int attempt) {
+        return attempt < maxAttempts && retryOn.test(failure);
+    }
+
+    /**
+     * @param attempt the number of the attempt that failed, starting from 1
+     */
+    long backoffNanos(int attempt) {
+        long backoff = initialBackoff;
+        for (int i = 1; i < attempt && backoff < maxBackoff; i++) {
+            backoff = backoff > maxBackoff / 2 ? maxBackoff : backoff * 2;
+        }
+        backoff = Math.min(backoff, maxBackoff);
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+}
@@ -0,0 +1,41 @@
+package com.pivovarit.collectors;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link Executor} marker instructing parallel collectors to retry failed tasks - see {@link RetryPolicy}
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class RetryingExecutor extends MarkerExecutor {
+
+    private final RetryPolicy policy;
+
+    private RetryingExecutor(Executor delegate, RetryPolicy policy) {
+        super(delegate);
+        this.policy = policy;
+    }
+
+    static Executor of(Executor executor, int maxAttempts, Duration initialBackoff, Duration maxBackoff, Predicate<Throwable> retryOn) {
+        requireNonNull(executor, "executor can't be null");
+        requireNonNull(initialBackoff, "initialBackoff can't be null");
+        requireNonNull(maxBackoff, "maxBackoff can't be null");
+        requireNonNull(retryOn, "retryOn can't be null");
+
+        return new RetryingExecutor(executor, new RetryPolicy(maxAttempts, initialBackoff, maxBackoff, retryOn));
+    }
+
+    @Override
+    Executor withDelegate(Executor delegate) {
+        return new RetryingExecutor(delegate, policy);
+    }
+
+    @Override
+    void configure(Dispatcher.Options options) {
+        options.retryPolicy(policy);
+    }
+}
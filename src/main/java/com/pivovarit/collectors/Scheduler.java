@@ -0,0 +1,37 @@
+package com.pivovarit.collectors;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A lazily started, shared timer used for time-based features of parallel collectors
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class Scheduler {
+
+    private Scheduler() {
+    }
+
+    static ScheduledFuture<?> schedule(Runnable task, Duration delay) {
+        return Holder.SCHEDULER.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static final class Holder {
+        private static final ScheduledThreadPoolExecutor SCHEDULER = newScheduler();
+
+        private static ScheduledThreadPoolExecutor newScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(task);
+                thread.setName("parallel-collector-scheduler-" + thread.getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
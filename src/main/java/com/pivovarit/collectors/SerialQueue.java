@@ -0,0 +1,39 @@
+package com.pivovarit.collectors;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A lock-free queue drained by at most one thread at a time, so that its elements are processed sequentially in submission order
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class SerialQueue<E> {
+
+    private final Queue<E> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean active = new AtomicBoolean();
+
+    /**
+     * @return {@code true} if the queue was idle and the caller is now responsible for scheduling {@link #drain(Consumer)}
+     */
+    boolean offer(E element) {
+        pending.add(element);
+        return active.compareAndSet(false, true);
+    }
+
+    void drain(Consumer<E> action) {
+        do {
+            try {
+                E element;
+                while ((element = pending.poll()) != null) {
+                    action.accept(element);
+                }
+            } finally {
+                active.set(false);
+            }
+            // re-check after deactivating so that an element offered in the meantime can't be missed
+        } while (!pending.isEmpty() && active.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,127 @@
+package com.pivovarit.collectors;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A long-lived {@link Executor} wrapper multiplexing dispatching of many concurrent collections on a single dispatcher thread,
+ * while each collection keeps its own working queue and parallelism limit.
+ * <p>
+ * Optionally, caps the total number of in-flight tasks across all collections sharing it.
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class SharedDispatcher implements Executor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final Executor delegate;
+    private final Semaphore budget;
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final ThreadPoolExecutor dispatcher = newSharedDispatcherThreadExecutor();
+
+    private SharedDispatcher(Executor delegate, int maxConcurrency) {
+        this.delegate = delegate;
+        this.budget = new Semaphore(maxConcurrency);
+    }
+
+    static Executor of(Executor executor) {
+        return of(executor, Integer.MAX_VALUE);
+    }
+
+    static Executor of(Executor executor, int maxConcurrency) {
+        requireNonNull(executor, "executor can't be null");
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency can't be lower than 1");
+        }
+
+        return MarkerExecutor.wrapInnermost(executor, e -> new SharedDispatcher(e, maxConcurrency));
+    }
+
+    Executor delegate() {
+        return delegate;
+    }
+
+    void schedule(Runnable dispatch) {
+        dispatcher.execute(dispatch);
+    }
+
+    /**
+     * Hands off the task once the shared budget allows it. Never blocks, so that a collection waiting for the budget
+     * doesn't hold up the shared dispatcher thread - tasks waiting for the budget are handed off in the order they got here.
+     *
+     * @param onRejected called instead of running the task if the underlying executor rejects it
+     */
+    void dispatch(Runnable task, Runnable onComplete, Consumer<Throwable> onRejected) {
+        waiting.add(() -> handOff(task, onComplete, onRejected));
+        dispatchWaiting();
+    }
+
+    private void dispatchWaiting() {
+        while (!waiting.isEmpty() && budget.tryAcquire()) {
+            Runnable next = waiting.poll();
+            if (next != null) {
+                next.run();
+            } else {
+                budget.release();
+            }
+        }
+    }
+
+    private void handOff(Runnable task, Runnable onComplete, Consumer<Throwable> onRejected) {
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    budget.release();
+                    if (!waiting.isEmpty()) {
+                        schedule(this::dispatchWaiting);
+                    }
+                    onComplete.run();
+                }
+            });
+        } catch (Throwable e) {
+            budget.release();
+            onRejected.accept(e);
+        }
+    }
+
+    /**
+     * Runs the command once the shared budget allows it, so that tasks submitted directly count towards the budget as well.
+     * <p>
+     * Since the command can be handed off long after this method returns, a rejection is reported to the uncaught exception handler
+     * of the thread handing it off.
+     */
+    @Override
+    public void execute(Runnable command) {
+        requireNonNull(command, "command can't be null");
+        dispatch(command, () -> {}, e -> {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        });
+    }
+
+    private static ThreadPoolExecutor newSharedDispatcherThreadExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+          KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          task -> {
+              Thread thread = Executors.defaultThreadFactory().newThread(task);
+              thread.setName("parallel-collector-shared-" + thread.getName());
+              thread.setDaemon(true);
+              return thread;
+          });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
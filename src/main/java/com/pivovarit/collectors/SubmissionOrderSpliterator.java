@@ -0,0 +1,72 @@
+package com.pivovarit.collectors;
+
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Returns results in the original order, handing over all consecutive completed results at once as soon as the head completes
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class SubmissionOrderSpliterator<T> implements Spliterator<T> {
+
+    private final CompletableFuture<T>[] futures;
+    private final IntConsumer onConsumed;
+    private int head;
+
+    @SuppressWarnings("unchecked")
+    SubmissionOrderSpliterator(Stream<CompletableFuture<T>> futures, IntConsumer onConsumed) {
+        this.futures = futures.toArray(CompletableFuture[]::new);
+        this.onConsumed = onConsumed;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (head == futures.length) {
+            return false;
+        }
+
+        T result = futures[head].join();
+        futures[head++] = null;
+        onConsumed.accept(1);
+        action.accept(result);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (head < futures.length) {
+            futures[head].join();
+
+            int ready = head + 1;
+            while (ready < futures.length && futures[ready].isDone()) {
+                ready++;
+            }
+
+            onConsumed.accept(ready - head);
+            for (; head < ready; head++) {
+                T result = futures[head].join();
+                futures[head] = null;
+                action.accept(result);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return futures.length - head;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | ORDERED | IMMUTABLE;
+    }
+}
@@ -0,0 +1,66 @@
+package com.pivovarit.collectors;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A lazily created, shared {@link Executor} running each task on a new virtual thread when the runtime supports them
+ * (JDK 21+) and on a cached pool of daemon platform threads otherwise
+ *
+ * @author Grzegorz Piwowarek
+ */
+final class VirtualThreads {
+
+    /**
+     * Tasks running on virtual threads are expected to block on IO most of the time, so the default parallelism
+     * is not derived from the number of available processors
+     */
+    private static final int VIRTUAL_THREADS_PARALLELISM = 256;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return the shared {@link Executor} wrapped with {@link DirectDispatchingExecutor} to avoid
+     * spawning dispatcher platform threads
+     */
+    static Executor executor() {
+        return Holder.EXECUTOR;
+    }
+
+    static boolean isSupported() {
+        return Holder.SUPPORTED;
+    }
+
+    /**
+     * @return the parallelism level used when none is provided - on runtimes without virtual threads support, each task occupies
+     * a platform thread of the fallback pool, so it's the same as for collectors running on a provided {@link Executor}
+     */
+    static int defaultParallelism() {
+        return isSupported() ? VIRTUAL_THREADS_PARALLELISM : Dispatcher.getDefaultParallelism();
+    }
+
+    private static final class Holder {
+        private static final ExecutorService VIRTUAL = newVirtualThreadPerTaskExecutor();
+        private static final boolean SUPPORTED = VIRTUAL != null;
+        private static final Executor EXECUTOR = DirectDispatchingExecutor.of(SUPPORTED ? VIRTUAL : newCachedDaemonThreadPool());
+
+        private static ExecutorService newVirtualThreadPerTaskExecutor() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        private static ExecutorService newCachedDaemonThreadPool() {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(task);
+                thread.setName("parallel-collector-io-" + thread.getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.pivovarit.collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveLimitTest {
+
+    private final List<Integer> changes = new ArrayList<>();
+
+    @Test
+    void shouldShrinkOnceLatencyRises() {
+        AdaptiveLimit limit = new AdaptiveLimit(1, 10, changes::add);
+        long now = System.nanoTime();
+
+        sample(limit, now, 10);
+        sample(limit, now, 100);
+        assertThat(limit.limit()).isEqualTo(9);
+
+        // started before the decrease, so the overload has already been acted upon
+        sample(limit, now, 100);
+        assertThat(limit.limit()).isEqualTo(9);
+
+        sample(limit, now + MILLISECONDS.toNanos(200), 200);
+        assertThat(limit.limit()).isEqualTo(8);
+        assertThat(changes).containsExactly(9, 8);
+    }
+
+    @Test
+    void shouldNotShrinkBelowMin() {
+        AdaptiveLimit limit = new AdaptiveLimit(3, 4, changes::add);
+        long now = System.nanoTime();
+
+        sample(limit, now, 10);
+        for (int i = 1; i <= 10; i++) {
+            sample(limit, now + MILLISECONDS.toNanos(1000 * i), 100 * i);
+        }
+
+        assertThat(limit.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldGrowBackWhenBusy() {
+        AdaptiveLimit limit = new AdaptiveLimit(1, 10, changes::add);
+        long now = System.nanoTime();
+        sample(limit, now, 10);
+        sample(limit, now, 100);
+        for (int i = 0; i < 9; i++) {
+            limit.tryAcquire(() -> {});
+        }
+
+        for (int i = 0; i < 20; i++) {
+            sample(limit, now + MILLISECONDS.toNanos(200), 10);
+        }
+
+        assertThat(limit.limit()).isEqualTo(10);
+        assertThat(changes).containsExactly(9, 10);
+    }
+
+    @Test
+    void shouldNotGrowWhenMostPermitsAreIdle() {
+        AdaptiveLimit limit = new AdaptiveLimit(1, 10, changes::add);
+        long now = System.nanoTime();
+        sample(limit, now, 10);
+        sample(limit, now, 100);
+
+        for (int i = 0; i < 20; i++) {
+            sample(limit, now + MILLISECONDS.toNanos(200), 10);
+        }
+
+        assertThat(limit.limit()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldWithholdPermitsOfTasksInFlightOnceShrunk() {
+        AdaptiveLimit limit = new AdaptiveLimit(1, 2, changes::add);
+        long now = System.nanoTime();
+        assertThat(limit.tryAcquire(() -> {})).isTrue();
+        assertThat(limit.tryAcquire(() -> {})).isTrue();
+
+        sample(limit, now, 10);
+        sample(limit, now, 100);
+        assertThat(limit.limit()).isEqualTo(1);
+
+        limit.release();
+        assertThat(limit.tryAcquire(() -> {})).isFalse();
+
+        limit.release();
+        assertThat(limit.tryAcquire(() -> {})).isTrue();
+        assertThat(limit.tryAcquire(() -> {})).isFalse();
+    }
+
+    private static void sample(AdaptiveLimit limit, long start, long latencyMillis) {
+        limit.onSample(start, start + MILLISECONDS.toNanos(latencyMillis));
+    }
+}
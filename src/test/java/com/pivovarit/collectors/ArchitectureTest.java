@@ -1,11 +1,14 @@
 package com.pivovarit.collectors;
 
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOptions;
 import org.junit.jupiter.api.Test;
 
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAnyPackage;
 import static com.tngtech.archunit.core.domain.JavaModifier.*;
 import static com.tngtech.archunit.core.importer.ImportOption.Predefined.DO_NOT_INCLUDE_ARCHIVES;
 import static com.tngtech.archunit.core.importer.ImportOption.Predefined.DO_NOT_INCLUDE_JARS;
@@ -47,13 +50,21 @@ class ArchitectureTest {
         classes()
           .that().resideInAPackage("com.pivovarit.collectors")
           .should()
-          .onlyDependOnClassesThat()
-          .resideInAnyPackage("com.pivovarit.collectors", "java..")
+          .onlyDependOnClassesThat(resideInAnyPackage("com.pivovarit.collectors", "java..").or(primitiveArrays()))
           .as("the library should depend only on core Java classes")
           .because("users appreciate not experiencing a dependency hell")
           .check(classes);
     }
 
+    private static DescribedPredicate<JavaClass> primitiveArrays() {
+        return new DescribedPredicate<JavaClass>("are primitive arrays") {
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.isArray() && input.getComponentType().isPrimitive();
+            }
+        };
+    }
+
     @Test
     void shouldHaveSinglePackage() {
         classes()
@@ -2,9 +2,12 @@ package com.pivovarit.collectors;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.pivovarit.collectors.BatchingSpliterator.partitioned;
@@ -46,6 +49,21 @@ class BatchingSpliteratorTest {
         assertThat(result.get(0)).containsExactlyElementsOf(list);
     }
 
+    @Test
+    void shouldSplitUnevenlyWhenTraversingInBulk() {
+        List<Integer> list = IntStream.range(0, 11).boxed().collect(Collectors.toList());
+
+        Spliterator<List<Integer>> spliterator = partitioned(list, 3).spliterator();
+        List<List<Integer>> result = new ArrayList<>();
+        spliterator.tryAdvance(result::add);
+        spliterator.forEachRemaining(result::add);
+
+        assertThat(result)
+          .extracting(List::size)
+          .containsExactly(4, 4, 3);
+        assertThat(result.stream().flatMap(List::stream)).containsExactlyElementsOf(list);
+    }
+
     @Test
     void shouldReturnEmptyIfZeroParts() {
         assertThatThrownBy(() -> partitioned(Arrays.asList(1, 2, 3), 0).collect(Collectors.toList()));
@@ -0,0 +1,45 @@
+package com.pivovarit.collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.pivovarit.collectors.ChunkingCollector.chunked;
+import static java.time.Duration.ofMillis;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkingCollectorTest {
+
+    @Test
+    void shouldChunkIntoFixedSizeBatches() {
+        List<List<Integer>> result = IntStream.range(0, 5).boxed()
+          .collect(chunked(Collectors.toList(), 2, null));
+
+        assertThat(result).containsExactly(asList(0, 1), asList(2, 3), asList(4));
+    }
+
+    @Test
+    void shouldNotEmitEmptyBatches() {
+        List<List<Integer>> result = Stream.<Integer>empty()
+          .collect(chunked(Collectors.toList(), 2, null));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldFlushIncompleteBatchAfterDelay() {
+        List<List<Integer>> result = IntStream.range(0, 3).boxed()
+          .peek(i -> {
+              if (i == 2) {
+                  TestUtils.returnWithDelay(i, ofMillis(200));
+              }
+          })
+          .collect(chunked(Collectors.toList(), 10, ofMillis(20)));
+
+        assertThat(result).containsExactly(asList(0, 1), asList(2));
+    }
+}
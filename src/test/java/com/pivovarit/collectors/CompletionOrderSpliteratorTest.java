@@ -48,6 +48,23 @@ class CompletionOrderSpliteratorTest {
         assertThat(results).containsExactly(3, 2, 1);
     }
 
+    @Test
+    void shouldTraverseCompletedAndPendingInCompletionOrder() {
+        CompletableFuture<Integer> f1 = new CompletableFuture<>();
+        CompletableFuture<Integer> f2 = CompletableFuture.completedFuture(2);
+        CompletableFuture<Integer> f3 = CompletableFuture.completedFuture(3);
+
+        CompletableFuture.runAsync(() -> {
+            sleep(100);
+            f1.complete(1);
+        });
+
+        List<Integer> results = new ArrayList<>();
+        new CompletionOrderSpliterator<>(Stream.of(f1, f2, f3)).forEachRemaining(results::add);
+
+        assertThat(results).containsExactly(2, 3, 1);
+    }
+
     @Test
     void shouldPropagateException() {
         CompletableFuture<Integer> f1 = new CompletableFuture<>();
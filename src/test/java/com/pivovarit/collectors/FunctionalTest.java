@@ -6,43 +6,65 @@ import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static com.pivovarit.collectors.ParallelCollectors.adaptiveConcurrency;
+import static com.pivovarit.collectors.ParallelCollectors.directDispatching;
+import static com.pivovarit.collectors.ParallelCollectors.hedged;
 import static com.pivovarit.collectors.ParallelCollectors.parallel;
+import static com.pivovarit.collectors.ParallelCollectors.parallelByKey;
+import static com.pivovarit.collectors.ParallelCollectors.parallelCollectingAllErrors;
+import static com.pivovarit.collectors.ParallelCollectors.parallelFolding;
+import static com.pivovarit.collectors.ParallelCollectors.parallelGroupingBy;
+import static com.pivovarit.collectors.ParallelCollectors.parallelOutcomes;
 import static com.pivovarit.collectors.ParallelCollectors.parallelToOrderedStream;
+import static com.pivovarit.collectors.ParallelCollectors.parallelToOrderedStreamWithLookahead;
 import static com.pivovarit.collectors.ParallelCollectors.parallelToStream;
+import static com.pivovarit.collectors.ParallelCollectors.rateLimited;
+import static com.pivovarit.collectors.ParallelCollectors.retrying;
+import static com.pivovarit.collectors.ParallelCollectors.sharedDispatcher;
 import static com.pivovarit.collectors.TestUtils.incrementAndThrow;
 import static com.pivovarit.collectors.TestUtils.returnWithDelay;
 import static com.pivovarit.collectors.TestUtils.runWithExecutor;
 import static java.lang.String.format;
 import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.collectingAndThen;
@@ -70,7 +92,26 @@ class FunctionalTest {
           tests((m, e, p) -> parallel(m, toList(), e, p), format("ParallelCollectors.parallel(toList(), p=%d)", PARALLELISM), true),
           tests((m, e, p) -> parallel(m, toSet(), e, p), format("ParallelCollectors.parallel(toSet(), p=%d)", PARALLELISM), false),
           tests((m, e, p) -> parallel(m, toCollection(LinkedList::new), e, p), format("ParallelCollectors.parallel(toCollection(), p=%d)", PARALLELISM), true),
-          tests((m, e, p) -> adapt(parallel(m, e, p)), format("ParallelCollectors.parallel(p=%d)", PARALLELISM), true)
+          tests((m, e, p) -> adapt(parallel(m, e, p)), format("ParallelCollectors.parallel(p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), directDispatching(e), p), format("ParallelCollectors.parallel(toList(), directDispatching, p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> adapt(parallel(m, directDispatching(e), p)), format("ParallelCollectors.parallel(directDispatching, p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallelFolding(m, toList(), e, p), format("ParallelCollectors.parallelFolding(toList(), p=%d)", PARALLELISM), false),
+          tests((m, e, p) -> parallelFolding(m, toSet(), e, p), format("ParallelCollectors.parallelFolding(toSet(), p=%d)", PARALLELISM), false),
+          tests((m, e, p) -> parallelByKey(i -> i, m, toList(), e, p), format("ParallelCollectors.parallelByKey(toList(), p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), sharedDispatcher(e), p), format("ParallelCollectors.parallel(toList(), sharedDispatcher, p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), sharedDispatcher(e, PARALLELISM), p), format("ParallelCollectors.parallel(toList(), sharedDispatcher(maxConcurrency=%d), p=%d)", PARALLELISM, PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), rateLimited(e, 10_000, 10), p), format("ParallelCollectors.parallel(toList(), rateLimited(10000/s, burst=10), p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), directDispatching(rateLimited(e, 10_000)), p), format("ParallelCollectors.parallel(toList(), directDispatching(rateLimited(10000/s)), p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), rateLimited(sharedDispatcher(e), 10_000), p), format("ParallelCollectors.parallel(toList(), rateLimited(sharedDispatcher, 10000/s), p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), adaptiveConcurrency(e, 1, PARALLELISM), p), format("ParallelCollectors.parallel(toList(), adaptiveConcurrency(1..%d), p=%d)", PARALLELISM, PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), directDispatching(adaptiveConcurrency(e, 1, PARALLELISM)), p), format("ParallelCollectors.parallel(toList(), directDispatching(adaptiveConcurrency(1..%d)), p=%d)", PARALLELISM, PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), e, p, ofSeconds(30)), format("ParallelCollectors.parallel(toList(), p=%d, taskTimeout=30s)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), e, p, ofSeconds(30), i -> null), format("ParallelCollectors.parallel(toList(), p=%d, taskTimeout=30s, fallback)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), e, p, ofSeconds(30), ofSeconds(60)), format("ParallelCollectors.parallel(toList(), p=%d, taskTimeout=30s, collectionTimeout=60s)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), hedged(e, ofSeconds(30), 10), p), format("ParallelCollectors.parallel(toList(), hedged(30s, maxHedges=10), p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), directDispatching(hedged(e, ofSeconds(30), 10)), p), format("ParallelCollectors.parallel(toList(), directDispatching(hedged(30s, maxHedges=10)), p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), retrying(e, 3, ofMillis(1), ofMillis(10), ex -> ex instanceof UncheckedIOException), p), format("ParallelCollectors.parallel(toList(), retrying(3), p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> parallel(m, toList(), sharedDispatcher(retrying(e, 3, ofMillis(1), ofMillis(10), ex -> ex instanceof UncheckedIOException)), p), format("ParallelCollectors.parallel(toList(), sharedDispatcher(retrying(3)), p=%d)", PARALLELISM), true)
         ).flatMap(i -> i);
     }
 
@@ -80,7 +121,16 @@ class FunctionalTest {
           batchTests((m, e, p) -> Batching.parallel(m, toList(), e, p), format("ParallelCollectors.Batching.parallel(toList(), p=%d)", PARALLELISM), true),
           batchTests((m, e, p) -> Batching.parallel(m, toSet(), e, p), format("ParallelCollectors.Batching.parallel(toSet(), p=%d)", PARALLELISM), false),
           batchTests((m, e, p) -> Batching.parallel(m, toCollection(LinkedList::new), e, p), format("ParallelCollectors.Batching.parallel(toCollection(), p=%d)", PARALLELISM), true),
-          batchTests((m, e, p) -> adapt(Batching.parallel(m, e, p)), format("ParallelCollectors.Batching.parallel(p=%d)", PARALLELISM), true)
+          batchTests((m, e, p) -> adapt(Batching.parallel(m, e, p)), format("ParallelCollectors.Batching.parallel(p=%d)", PARALLELISM), true),
+          batchTests((m, e, p) -> Batching.parallel(m, toList(), directDispatching(e), p), format("ParallelCollectors.Batching.parallel(toList(), directDispatching, p=%d)", PARALLELISM), true),
+          batchTests((m, e, p) -> Batching.parallelCombining(m, toList(), e, p), format("ParallelCollectors.Batching.parallelCombining(toList(), p=%d)", PARALLELISM), true),
+          batchTests((m, e, p) -> Batching.parallelCombining(m, toSet(), e, p), format("ParallelCollectors.Batching.parallelCombining(toSet(), p=%d)", PARALLELISM), false),
+          tests((m, e, p) -> Batching.parallelAdaptive(m, toList(), e, p), format("ParallelCollectors.Batching.parallelAdaptive(toList(), p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> adapt(Batching.parallelAdaptive(m, e, p)), format("ParallelCollectors.Batching.parallelAdaptive(p=%d)", PARALLELISM), true),
+          tests((m, e, p) -> Batching.parallel(m, toList(), e, p, 1), format("ParallelCollectors.Batching.parallel(toList(), p=%d, batchSize=1)", PARALLELISM), true),
+          tests((m, e, p) -> adapt(Batching.parallel(m, e, p, 1)), format("ParallelCollectors.Batching.parallel(p=%d, batchSize=1)", PARALLELISM), true),
+          tests((m, e, p) -> Batching.parallel(m, toList(), e, p, 1, ofMillis(50)), format("ParallelCollectors.Batching.parallel(toList(), p=%d, batchSize=1, maxBatchDelay=50ms)", PARALLELISM), true),
+          tests((m, e, p) -> adapt(Batching.parallel(m, e, p, 1, ofMillis(50))), format("ParallelCollectors.Batching.parallel(p=%d, batchSize=1, maxBatchDelay=50ms)", PARALLELISM), true)
         ).flatMap(i -> i);
     }
 
@@ -88,7 +138,11 @@ class FunctionalTest {
     Stream<DynamicTest> streaming_collectors() {
         return of(
           streamingTests((m, e, p) -> adaptAsync(parallelToStream(m, e, p)), format("ParallelCollectors.parallelToStream(p=%d)", PARALLELISM), false),
-          streamingTests((m, e, p) -> adaptAsync(parallelToOrderedStream(m, e, p)), format("ParallelCollectors.parallelToOrderedStream(p=%d)", PARALLELISM), true)
+          streamingTests((m, e, p) -> adaptAsync(parallelToOrderedStream(m, e, p)), format("ParallelCollectors.parallelToOrderedStream(p=%d)", PARALLELISM), true),
+          streamingTests((m, e, p) -> adaptAsync(parallelToStream(m, directDispatching(e), p)), format("ParallelCollectors.parallelToStream(directDispatching, p=%d)", PARALLELISM), false),
+          streamingTests((m, e, p) -> adaptAsync(parallelToOrderedStream(m, directDispatching(e), p)), format("ParallelCollectors.parallelToOrderedStream(directDispatching, p=%d)", PARALLELISM), true),
+          streamingTests((m, e, p) -> adaptAsync(parallelToStream(m, sharedDispatcher(e), p)), format("ParallelCollectors.parallelToStream(sharedDispatcher, p=%d)", PARALLELISM), false),
+          streamingTests((m, e, p) -> adaptAsync(parallelToOrderedStreamWithLookahead(m, e, p, p)), format("ParallelCollectors.parallelToOrderedStreamWithLookahead(p=%d, maxLookahead=%d)", PARALLELISM, PARALLELISM), true)
         ).flatMap(i -> i);
     }
 
@@ -96,7 +150,11 @@ class FunctionalTest {
     Stream<DynamicTest> streaming_batching_collectors() {
         return of(
           batchStreamingTests((m, e, p) -> adaptAsync(Batching.parallelToStream(m, e, p)), format("ParallelCollectors.Batching.parallelToStream(p=%d)", PARALLELISM), false),
-          batchStreamingTests((m, e, p) -> adaptAsync(Batching.parallelToOrderedStream(m, e, p)), format("ParallelCollectors.Batching.parallelToOrderedStream(p=%d)", PARALLELISM), true)
+          batchStreamingTests((m, e, p) -> adaptAsync(Batching.parallelToOrderedStream(m, e, p)), format("ParallelCollectors.Batching.parallelToOrderedStream(p=%d)", PARALLELISM), true),
+          streamingTests((m, e, p) -> adaptAsync(Batching.parallelToStream(m, e, p, 1)), format("ParallelCollectors.Batching.parallelToStream(p=%d, batchSize=1)", PARALLELISM), false),
+          streamingTests((m, e, p) -> adaptAsync(Batching.parallelToOrderedStream(m, e, p, 1)), format("ParallelCollectors.Batching.parallelToOrderedStream(p=%d, batchSize=1)", PARALLELISM), true),
+          streamingTests((m, e, p) -> adaptAsync(Batching.parallelToStream(m, e, p, 1, ofMillis(50))), format("ParallelCollectors.Batching.parallelToStream(p=%d, batchSize=1, maxBatchDelay=50ms)", PARALLELISM), false),
+          streamingTests((m, e, p) -> adaptAsync(Batching.parallelToOrderedStream(m, e, p, 1, ofMillis(50))), format("ParallelCollectors.Batching.parallelToOrderedStream(p=%d, batchSize=1, maxBatchDelay=50ms)", PARALLELISM), true)
         ).flatMap(i -> i);
     }
 
@@ -133,6 +191,1064 @@ class FunctionalTest {
           .until(result::get);
     }
 
+    @Test
+    void shouldNotStartDispatcherThreadWhenDispatchingDirectly() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Set<String> threads = new ConcurrentSkipListSet<>();
+
+            IntStream.range(0, 100).boxed()
+              .collect(parallel(i -> i, toList(), directDispatching(command -> {
+                  threads.add(Thread.currentThread().getName());
+                  executor.execute(command);
+              }), 4))
+              .join();
+
+            assertThat(threads).noneMatch(name -> name.startsWith("parallel-collector-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRunOnVirtualThreadsWithoutExecutor() {
+        Set<String> threads = new ConcurrentSkipListSet<>();
+
+        List<Integer> result = IntStream.range(0, 100).boxed()
+          .collect(parallel(i -> {
+              threads.add(Thread.currentThread().toString());
+              return i;
+          }, toList()))
+          .join();
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 100).boxed().collect(toList()));
+        assertThat(threads).allMatch(name -> VirtualThreads.isSupported()
+          ? name.startsWith("VirtualThread")
+          : name.contains("parallel-collector-io-"));
+    }
+
+    @Test
+    void shouldNotSpawnHundredsOfPlatformThreadsByDefault() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        IntStream.range(0, 100).boxed()
+          .collect(parallel(i -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              returnWithDelay(i, ofMillis(5));
+              running.decrementAndGet();
+              return i;
+          }, toList()))
+          .join();
+
+        assertThat(VirtualThreads.defaultParallelism()).isEqualTo(VirtualThreads.isSupported() ? 256 : Dispatcher.getDefaultParallelism());
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(VirtualThreads.defaultParallelism());
+    }
+
+    @Test
+    void shouldRespectParallelismWithoutExecutor() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Integer> result = IntStream.range(0, 50).boxed()
+          .collect(parallelToOrderedStream(i -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              returnWithDelay(i, ofMillis(10));
+              running.decrementAndGet();
+              return i;
+          }, 4))
+          .collect(toList());
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 50).boxed().collect(toList()));
+        assertThat(maxRunning.get()).isBetween(1, 4);
+    }
+
+    @Test
+    void shouldRespectParallelismOfEachCollectionSharingDispatcher() {
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            Executor dispatcher = sharedDispatcher(executor);
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+
+            List<CompletableFuture<List<Integer>>> results = IntStream.range(0, 5)
+              .mapToObj(__ -> IntStream.range(0, 20).boxed()
+                .collect(parallel(i -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    returnWithDelay(i, ofMillis(10));
+                    inFlight.decrementAndGet();
+                    return i;
+                }, toList(), dispatcher, 2)))
+              .collect(toList());
+
+            results.forEach(CompletableFuture::join);
+
+            assertThat(results)
+              .allSatisfy(r -> assertThat(r.join()).hasSize(20));
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(5 * 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRespectConcurrencyBudgetAcrossCollections() {
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            Executor dispatcher = sharedDispatcher(executor, 3);
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+
+            List<CompletableFuture<List<Integer>>> results = IntStream.range(0, 5)
+              .mapToObj(__ -> IntStream.range(0, 10).boxed()
+                .collect(parallel(i -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    returnWithDelay(i, ofMillis(10));
+                    inFlight.decrementAndGet();
+                    return i;
+                }, toList(), dispatcher, 4)))
+              .collect(toList());
+
+            results.forEach(CompletableFuture::join);
+
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRespectConcurrencyBudgetAcrossCollectionsWithParallelismOfOne() {
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            Executor dispatcher = sharedDispatcher(executor, 2);
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            Function<Integer, Integer> tracked = i -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                returnWithDelay(i, ofMillis(10));
+                inFlight.decrementAndGet();
+                return i;
+            };
+
+            List<CompletableFuture<List<Integer>>> results = IntStream.range(0, 10)
+              .mapToObj(__ -> IntStream.range(0, 5).boxed().collect(parallel(tracked, toList(), dispatcher, 1)))
+              .collect(toList());
+            List<CompletableFuture<Integer>> submitted = IntStream.range(0, 10)
+              .mapToObj(i -> CompletableFuture.supplyAsync(() -> tracked.apply(i), dispatcher))
+              .collect(toList());
+
+            results.forEach(CompletableFuture::join);
+            submitted.forEach(CompletableFuture::join);
+
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldShareConcurrencyBudgetFairly() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Executor dispatcher = sharedDispatcher(executor, 1);
+            AtomicInteger processed = new AtomicInteger();
+
+            CompletableFuture<List<Integer>> first = IntStream.range(0, 50).boxed()
+              .collect(parallel(i -> {
+                  processed.incrementAndGet();
+                  return returnWithDelay(i, ofMillis(10));
+              }, toList(), dispatcher, 4));
+
+            Stream.of(42).collect(parallel(i -> i, toList(), dispatcher, 4)).join();
+
+            assertThat(first).isNotDone();
+            assertThat(processed.get()).isLessThan(25);
+            first.join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldHandOffTasksWaitingForConcurrencyBudgetInOrder() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Executor dispatcher = sharedDispatcher(executor, 1);
+            CountDownLatch release = new CountDownLatch(1);
+            List<Integer> processed = new CopyOnWriteArrayList<>();
+
+            dispatcher.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            List<CompletableFuture<Void>> waiting = IntStream.range(0, 10)
+              .mapToObj(i -> CompletableFuture.runAsync(() -> processed.add(i), dispatcher))
+              .collect(toList());
+            CompletableFuture<List<Integer>> collected = IntStream.range(0, 5).boxed()
+              .collect(parallel(i -> i, toList(), dispatcher, 1));
+
+            assertThat(collected).isNotDone();
+            assertThat(processed).isEmpty();
+
+            release.countDown();
+            waiting.forEach(CompletableFuture::join);
+
+            assertThat(processed).containsExactlyElementsOf(IntStream.range(0, 10).boxed().collect(toList()));
+            assertThat(collected.join()).containsExactly(0, 1, 2, 3, 4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidConcurrencyBudget() {
+        assertThatThrownBy(() -> sharedDispatcher(executor, 0))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDispatchBatchesBeforeConsumingWholeSource() {
+        CountDownLatch firstBatchProcessed = new CountDownLatch(2);
+        AtomicBoolean dispatchedEagerly = new AtomicBoolean();
+
+        List<Integer> result = IntStream.range(0, 4).boxed()
+          .peek(i -> {
+              if (i == 2) {
+                  dispatchedEagerly.set(awaitLatch(firstBatchProcessed));
+              }
+          })
+          .collect(Batching.parallel(i -> {
+              firstBatchProcessed.countDown();
+              return i;
+          }, toList(), executor, 2, 2, Duration.ofSeconds(10)))
+          .join();
+
+        assertThat(result).containsExactly(0, 1, 2, 3);
+        assertThat(dispatchedEagerly).isTrue();
+    }
+
+    @Test
+    void shouldDispatchIncompleteBatchAfterMaxBatchDelay() {
+        CountDownLatch firstElementProcessed = new CountDownLatch(1);
+        AtomicBoolean dispatchedEagerly = new AtomicBoolean();
+
+        List<Integer> result = IntStream.range(0, 2).boxed()
+          .peek(i -> {
+              if (i == 1) {
+                  dispatchedEagerly.set(awaitLatch(firstElementProcessed));
+              }
+          })
+          .collect(Batching.parallelToOrderedStream(i -> {
+              firstElementProcessed.countDown();
+              return i;
+          }, executor, 2, 100, ofMillis(50)))
+          .collect(toList());
+
+        assertThat(result).containsExactly(0, 1);
+        assertThat(dispatchedEagerly).isTrue();
+    }
+
+    @Test
+    void shouldNotComputeResultsFurtherAheadThanMaxLookahead() {
+        CountDownLatch headReleased = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+
+        Stream<Integer> result = IntStream.range(0, 100).boxed()
+          .collect(parallelToOrderedStreamWithLookahead(i -> {
+              started.incrementAndGet();
+              if (i == 0) {
+                  awaitLatch(headReleased);
+              }
+              return i;
+          }, executor, 2, 5));
+
+        await().until(() -> started.get() == 5);
+        await().pollDelay(ofMillis(100)).until(() -> started.get() == 5);
+
+        headReleased.countDown();
+        assertThat(result.collect(toList())).containsExactlyElementsOf(IntStream.range(0, 100).boxed().collect(toList()));
+        assertThat(started.get()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldRejectInvalidMaxLookahead() {
+        assertThatThrownBy(() -> parallelToOrderedStreamWithLookahead(i -> i, executor, 2, 1))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCollectToPrimitiveStreams() {
+        List<Integer> source = IntStream.range(0, 101).boxed().collect(toList());
+
+        assertThat(source.stream().collect(Batching.parallelToIntStream(i -> i * 2, executor, 4)).join().toArray())
+          .containsExactly(IntStream.range(0, 101).map(i -> i * 2).toArray());
+        assertThat(source.stream().collect(Batching.parallelToLongStream(i -> i * 3L, executor, 4)).join().toArray())
+          .containsExactly(LongStream.range(0, 101).map(i -> i * 3).toArray());
+        assertThat(source.stream().collect(Batching.parallelToDoubleStream(i -> i / 2.0, executor, 4)).join().toArray())
+          .containsExactly(IntStream.range(0, 101).mapToDouble(i -> i / 2.0).toArray());
+    }
+
+    @Test
+    void shouldCollectToListInOrder() {
+        List<Integer> source = IntStream.range(0, 101).boxed().collect(toList());
+
+        assertThat(source.stream().collect(Batching.parallelToList(i -> i * 2, executor, 4)).join())
+          .containsExactlyElementsOf(source.stream().map(i -> i * 2).collect(toList()));
+        assertThat(Stream.<Integer>empty().collect(Batching.parallelToList(i -> i, executor, 4)).join()).isEmpty();
+    }
+
+    @Test
+    void shouldFoldResultsAsTheyComplete() throws InterruptedException {
+        int size = 10;
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger folded = new AtomicInteger();
+
+        CompletableFuture<Integer> result = IntStream.range(0, size).boxed()
+          .collect(parallelFolding(i -> {
+              if (i == 0) {
+                  try {
+                      release.await();
+                  } catch (InterruptedException e) {
+                      throw new RuntimeException(e);
+                  }
+              }
+              return i;
+          }, Collectors.reducing(0, i -> {
+              folded.incrementAndGet();
+              return i;
+          }, Integer::sum), executor, 2));
+
+        await().atMost(1, SECONDS).until(() -> folded.get() == size - 1);
+        assertThat(result).isNotDone();
+
+        release.countDown();
+        assertThat(result.join()).isEqualTo(IntStream.range(0, size).sum());
+    }
+
+    @Test
+    void shouldGroupByKeyMaintainingPerKeyOrder() {
+        Map<Integer, List<Integer>> result = IntStream.range(0, 100).boxed()
+          .collect(parallelGroupingBy(i -> i % 3, i -> returnWithDelay(i, ofMillis(i % 7)), executor, 4))
+          .join();
+
+        assertThat(result).isEqualTo(IntStream.range(0, 100).boxed().collect(Collectors.groupingBy(i -> i % 3)));
+    }
+
+    @Test
+    void shouldProcessKeysInParallelButEachKeySerially() {
+        Map<Integer, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        AtomicInteger maxPerKey = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxOverall = new AtomicInteger();
+
+        Map<Integer, Long> result = IntStream.range(0, 40).boxed()
+          .collect(parallelGroupingBy(i -> i % 4, i -> {
+              AtomicInteger sameKey = inFlight.computeIfAbsent(i % 4, __ -> new AtomicInteger());
+              maxPerKey.accumulateAndGet(sameKey.incrementAndGet(), Math::max);
+              maxOverall.accumulateAndGet(running.incrementAndGet(), Math::max);
+              returnWithDelay(i, ofMillis(10));
+              running.decrementAndGet();
+              sameKey.decrementAndGet();
+              return i;
+          }, Collectors.counting(), executor, 4))
+          .join();
+
+        assertThat(result).containsOnlyKeys(0, 1, 2, 3).allSatisfy((k, v) -> assertThat(v).isEqualTo(10));
+        assertThat(maxPerKey.get()).isEqualTo(1);
+        assertThat(maxOverall.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void shouldPropagateExceptionFromGroupingCollector() {
+        assertThatThrownBy(() -> IntStream.range(0, 10).boxed()
+          .collect(parallelGroupingBy(i -> i % 2, i -> {
+              if (i == 7) {
+                  throw new IllegalArgumentException();
+              }
+              return i;
+          }, executor, 4))
+          .join())
+          .isInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldGroupEmptyStream() {
+        assertThat(Stream.<Integer>empty().collect(parallelGroupingBy(i -> i, i -> i, executor, 4)).join()).isEmpty();
+    }
+
+    @Test
+    void shouldRunTasksSharingKeySequentiallyInSubmissionOrder() {
+        Map<Integer, List<Integer>> processed = new ConcurrentHashMap<>();
+        Map<Integer, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        AtomicInteger maxPerKey = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxOverall = new AtomicInteger();
+
+        List<Integer> result = IntStream.range(0, 40).boxed()
+          .collect(parallelByKey(i -> i % 4, i -> {
+              AtomicInteger sameKey = inFlight.computeIfAbsent(i % 4, __ -> new AtomicInteger());
+              maxPerKey.accumulateAndGet(sameKey.incrementAndGet(), Math::max);
+              maxOverall.accumulateAndGet(running.incrementAndGet(), Math::max);
+              processed.computeIfAbsent(i % 4, __ -> new CopyOnWriteArrayList<>()).add(i);
+              returnWithDelay(i, ofMillis(10));
+              running.decrementAndGet();
+              sameKey.decrementAndGet();
+              return i;
+          }, toList(), executor, 4))
+          .join();
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 40).boxed().collect(toList()));
+        assertThat(processed).isEqualTo(IntStream.range(0, 40).boxed().collect(Collectors.groupingBy(i -> i % 4)));
+        assertThat(maxPerKey.get()).isEqualTo(1);
+        assertThat(maxOverall.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void shouldFailPendingTasksSharingKeyOnceOneOfThemFails() {
+        AtomicInteger sameKeyCalls = new AtomicInteger();
+
+        CompletableFuture<List<Integer>> result = IntStream.range(0, 40).boxed()
+          .collect(parallelByKey(i -> i % 4, i -> {
+              if (i % 4 == 0 && sameKeyCalls.getAndIncrement() == 0) {
+                  returnWithDelay(i, ofMillis(50));
+                  throw new IllegalStateException();
+              }
+              return i;
+          }, toList(), executor, 4));
+
+        assertTimeoutPreemptively(ofSeconds(2), () -> assertThatThrownBy(result::join)
+          .isExactlyInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(IllegalStateException.class));
+        assertThat(sameKeyCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotExceedDispatchRate() {
+        int size = 20;
+        int burst = 5;
+        long start = System.nanoTime();
+
+        List<Integer> result = IntStream.range(0, size).boxed()
+          .collect(parallel(i -> i, toList(), rateLimited(executor, 50, burst), 10))
+          .join();
+
+        assertThat(result).hasSize(size);
+        // (size - burst) tokens refilled at 50/s
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(ofMillis(280));
+    }
+
+    @Test
+    void shouldNotExceedDispatchRateWithParallelismOfOne() {
+        int size = 20;
+        int burst = 5;
+
+        assertThat(timed(() -> IntStream.range(0, size).boxed()
+          .collect(parallel(i -> i, toList(), rateLimited(executor, 50, burst), 1))
+          .join())).isGreaterThanOrEqualTo(ofMillis(280));
+    }
+
+    @Test
+    void shouldNotExceedDispatchRateOfBatchesWithParallelismOfOne() {
+        // with parallelism of 1, each collection dispatches a single batch
+        Executor limited = rateLimited(executor, 10, 1);
+
+        assertThat(timed(() -> {
+            for (int i = 0; i < 3; i++) {
+                IntStream.range(0, 20).boxed().collect(Batching.parallel(x -> x, toList(), limited, 1)).join();
+            }
+        })).isGreaterThanOrEqualTo(ofMillis(180));
+        assertThat(timed(() -> {
+            for (int i = 0; i < 3; i++) {
+                IntStream.range(0, 20).boxed().collect(Batching.parallelToStream(x -> x, limited, 1)).collect(toList());
+            }
+        })).isGreaterThanOrEqualTo(ofMillis(180));
+    }
+
+    @Test
+    void shouldRejectInvalidRateLimit() {
+        assertThatThrownBy(() -> rateLimited(executor, 0))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> rateLimited(executor, 10, 0))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReduceParallelismOnceLatencyRises() {
+        int parallelism = 8;
+        List<Integer> limits = new CopyOnWriteArrayList<>();
+
+        IntStream.range(0, 200).boxed()
+          .collect(parallel(i -> returnWithDelay(i, ofMillis(i < 50 ? 1 : 20)), toList(), adaptiveConcurrency(executor, 2, parallelism, limits::add), parallelism))
+          .join();
+
+        assertThat(limits).isNotEmpty().allSatisfy(limit -> assertThat(limit).isBetween(2, parallelism));
+        assertThat(limits.get(0)).isLessThan(parallelism);
+    }
+
+    @Test
+    void shouldCarryAdaptiveLimitOverAcrossCollections() {
+        int parallelism = 8;
+        List<Integer> limits = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+
+        try {
+            Executor adaptive = adaptiveConcurrency(executor, 1, parallelism, limits::add);
+            IntStream.range(0, 50).boxed()
+              .collect(parallel(i -> returnWithDelay(i, ofMillis(1)), toList(), adaptive, parallelism))
+              .join();
+            for (int i = 0; i < 3; i++) {
+                IntStream.range(0, 20).boxed()
+                  .collect(parallel(x -> returnWithDelay(x, ofMillis(50)), toList(), adaptive, parallelism))
+                  .join();
+            }
+
+            // latencies observed by the first collection keep driving the limit of the following ones
+            assertThat(limits).isNotEmpty();
+            assertThat(limits.get(limits.size() - 1)).isLessThan(parallelism - 1);
+            for (int i = 1; i < limits.size(); i++) {
+                assertThat(Math.abs(limits.get(i) - limits.get(i - 1))).isLessThanOrEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRespectAdaptiveLimitAcrossConcurrentCollections() {
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            Executor adaptive = adaptiveConcurrency(executor, 1, 3);
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            Function<Integer, Integer> tracked = i -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                returnWithDelay(i, ofMillis(10));
+                inFlight.decrementAndGet();
+                return i;
+            };
+
+            List<CompletableFuture<List<Integer>>> results = Stream.of(adaptive, directDispatching(adaptive), sharedDispatcher(adaptive))
+              .map(e -> IntStream.range(0, 10).boxed().collect(parallel(tracked, toList(), e, 4)))
+              .collect(toList());
+
+            assertThat(results.stream().map(CompletableFuture::join))
+              .allSatisfy(result -> assertThat(result).hasSize(10));
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidAdaptiveConcurrency() {
+        assertThatThrownBy(() -> adaptiveConcurrency(executor, 0, 10))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> adaptiveConcurrency(executor, 10, 9))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldFailFastAndInterruptTaskOnTimeout() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        CompletableFuture<List<Integer>> result = Stream.of(1, 2, 3)
+          .collect(parallel(i -> {
+              if (i == 2) {
+                  try {
+                      Thread.sleep(10_000);
+                  } catch (InterruptedException e) {
+                      interrupted.set(true);
+                  }
+              }
+              return i;
+          }, toList(), executor, 2, ofMillis(50)));
+
+        assertThatThrownBy(result::join)
+          .isExactlyInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(TimeoutException.class);
+        await().atMost(1, SECONDS).untilTrue(interrupted);
+    }
+
+    @Test
+    void shouldFillInFallbackForTimedOutTasks() {
+        long start = System.nanoTime();
+
+        List<Integer> result = IntStream.range(0, 10).boxed()
+          .collect(parallel(i -> returnWithDelay(i, ofMillis(i % 2 == 0 ? 0 : 10_000)), toList(), executor, 1, ofMillis(50), i -> -1))
+          .join();
+
+        assertThat(result).containsExactly(0, -1, 2, -1, 4, -1, 6, -1, 8, -1);
+        // permits of timed out tasks are given back right away
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(ofSeconds(5));
+    }
+
+    @Test
+    void shouldTimeOutWholeCollection() {
+        CompletableFuture<List<Integer>> result = IntStream.range(0, 100).boxed()
+          .collect(parallel(i -> returnWithDelay(i, ofMillis(50)), toList(), executor, 1, ofSeconds(1), ofMillis(200)));
+
+        assertTimeoutPreemptively(ofSeconds(2), () -> assertThatThrownBy(result::join)
+          .isExactlyInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(TimeoutException.class));
+    }
+
+    @Test
+    void shouldRejectInvalidTimeouts() {
+        assertThatThrownBy(() -> parallel(i -> i, toList(), executor, 1, Duration.ZERO))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parallel(i -> i, toList(), executor, 1, ofMillis(-1), i -> i))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parallel(i -> i, toList(), executor, 1, ofSeconds(1), Duration.ZERO))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCompleteSlowTasksWithHedgedAttempts() {
+        Map<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        // duplicate attempts need spare executor threads
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        long start = System.nanoTime();
+
+        try {
+            List<Integer> result = IntStream.range(0, 10).boxed()
+              .collect(parallel(i -> {
+                  // only the first attempt of odd elements is slow
+                  boolean slow = i % 2 == 1 && attempts.computeIfAbsent(i, __ -> new AtomicInteger()).incrementAndGet() == 1;
+                  return returnWithDelay(i, ofMillis(slow ? 10_000 : 0));
+              }, toList(), hedged(executor, ofMillis(50), 10), 4))
+              .join();
+
+            assertThat(result).containsExactlyElementsOf(IntStream.range(0, 10).boxed().collect(toList()));
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(ofSeconds(5));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldHedgeTasksSlowerThanMostOthers() {
+        AtomicInteger hedges = new AtomicInteger();
+        Set<Integer> started = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+
+        try {
+            List<Integer> result = IntStream.range(0, 100).boxed()
+              .collect(parallel(i -> {
+                  if (!started.add(i)) {
+                      hedges.incrementAndGet();
+                      return i;
+                  }
+                  return returnWithDelay(i, ofMillis(i == 90 ? 10_000 : 5));
+              }, toList(), hedged(executor, 1), 4))
+              .join();
+
+            assertThat(result).hasSize(100);
+            assertThat(hedges.get()).isPositive();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldHedgeShortCollectionsUsingLatenciesOfPreviousOnes() {
+        AtomicInteger hedges = new AtomicInteger();
+        Set<Integer> started = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+
+        try {
+            Executor hedged = hedged(executor, 1);
+            for (int i = 0; i < 5; i++) {
+                IntStream.range(0, 10).boxed()
+                  .collect(parallel(x -> returnWithDelay(x, ofMillis(5)), toList(), hedged, 4))
+                  .join();
+            }
+
+            List<Integer> result = IntStream.range(0, 5).boxed()
+              .collect(parallel(i -> {
+                  if (!started.add(i)) {
+                      hedges.incrementAndGet();
+                      return i;
+                  }
+                  return returnWithDelay(i, ofMillis(i == 3 ? 10_000 : 5));
+              }, toList(), hedged, 4))
+              .join();
+
+            assertThat(result).containsExactly(0, 1, 2, 3, 4);
+            assertThat(hedges.get()).isPositive();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotHedgeTasksWithSideEffects() {
+        LongAdder calls = new LongAdder();
+
+        int result = IntStream.range(0, 10).boxed()
+          .collect(parallelFolding(i -> {
+              calls.increment();
+              return returnWithDelay(i, ofMillis(100));
+          }, Collectors.summingInt(i -> i), hedged(executor, ofMillis(10), 10), 4))
+          .join();
+
+        assertThat(result).isEqualTo(45);
+        assertThat(calls.sum()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldNotHedgeBatchesWritingIntoSharedBuffer() {
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            LongAdder calls = new LongAdder();
+            Function<Integer, Integer> uninterruptible = i -> {
+                calls.increment();
+                long deadline = System.nanoTime() + ofMillis(50).toNanos();
+                while (System.nanoTime() < deadline) {
+                    // busy-waiting, ignoring interrupts
+                }
+                return i;
+            };
+
+            List<Integer> list = IntStream.range(0, 8).boxed()
+              .collect(Batching.parallelToList(uninterruptible, hedged(executor, ofMillis(10), 10), 4))
+              .join();
+            int[] ints = IntStream.range(0, 8).boxed()
+              .collect(Batching.parallelToIntStream(uninterruptible::apply, hedged(executor, ofMillis(10), 10), 4))
+              .join().toArray();
+
+            assertThat(list).containsExactlyElementsOf(IntStream.range(0, 8).boxed().collect(toList()));
+            assertThat(ints).containsExactly(IntStream.range(0, 8).toArray());
+            assertThat(calls.sum()).isEqualTo(16);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidHedging() {
+        assertThatThrownBy(() -> hedged(executor, Duration.ZERO, 1))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> hedged(executor, 0))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRetryFailedTasks() {
+        Map<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        Function<Integer, Integer> failingTwice = i -> {
+            if (attempts.computeIfAbsent(i, __ -> new AtomicInteger()).incrementAndGet() < 3) {
+                throw new IllegalStateException();
+            }
+            return i;
+        };
+
+        List<Integer> result = IntStream.range(0, 20).boxed()
+          .collect(parallel(failingTwice, toList(), retrying(executor, 3, ofMillis(5), ofMillis(20)), 4))
+          .join();
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 20).boxed().collect(toList()));
+        assertThat(attempts.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(3));
+    }
+
+    @Test
+    void shouldRetryFailedTasksWithParallelismOfOne() {
+        Set<Integer> failed = ConcurrentHashMap.newKeySet();
+
+        List<Integer> result = IntStream.range(0, 10).boxed()
+          .collect(parallel(i -> {
+              if (failed.add(i)) {
+                  throw new IllegalStateException();
+              }
+              return i;
+          }, toList(), retrying(executor, 2, ofMillis(5), ofMillis(5)), 1))
+          .join();
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 10).boxed().collect(toList()));
+    }
+
+    @Test
+    void shouldRetryFailedTasksOfOrderedStreamWithLimitedLookahead() {
+        Set<Integer> failed = ConcurrentHashMap.newKeySet();
+
+        List<Integer> result = IntStream.range(0, 20).boxed()
+          .collect(parallelToOrderedStreamWithLookahead(i -> {
+              if (failed.add(i)) {
+                  throw new IllegalStateException();
+              }
+              return i;
+          }, retrying(executor, 2, ofMillis(5), ofMillis(5)), 2, 2))
+          .collect(toList());
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 20).boxed().collect(toList()));
+    }
+
+    @Test
+    void shouldFailOnceRetriesAreExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(Stream.of(1)
+          .collect(parallel(i -> {
+              attempts.incrementAndGet();
+              throw new IllegalStateException();
+          }, toList(), retrying(executor, 3, ofMillis(5), ofMillis(20)), 4))::join)
+          .isExactlyInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(IllegalStateException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotRetryUnmatchedExceptions() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(Stream.of(1)
+          .collect(parallel(i -> {
+              attempts.incrementAndGet();
+              throw new IllegalArgumentException();
+          }, toList(), retrying(executor, 3, ofMillis(5), ofMillis(20), e -> e instanceof IllegalStateException), 4))::join)
+          .isExactlyInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(IllegalArgumentException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleasePermitDuringBackoff() {
+        List<Integer> completed = new CopyOnWriteArrayList<>();
+        Set<Integer> failed = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 6).boxed()
+          .collect(parallel(i -> {
+              if (i < 2 && failed.add(i)) {
+                  throw new IllegalStateException();
+              }
+              completed.add(i);
+              return i;
+          }, toList(), retrying(executor, 2, ofMillis(500), ofMillis(500)), 2))
+          .join();
+
+        // both permits are used by the remaining elements while the first two back off
+        assertThat(completed).hasSize(6);
+        assertThat(completed.subList(0, 4)).containsExactlyInAnyOrder(2, 3, 4, 5);
+    }
+
+    @Test
+    void shouldRejectInvalidRetries() {
+        assertThatThrownBy(() -> retrying(executor, 0, ofMillis(5), ofMillis(20)))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> retrying(executor, 3, ofMillis(20), ofMillis(5)))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldProcessAllElementsDespiteFailures() {
+        LongAdder calls = new LongAdder();
+
+        List<CompletableFuture<Integer>> outcomes = IntStream.range(0, 100).boxed()
+          .collect(parallelOutcomes(i -> {
+              calls.increment();
+              if (i % 2 == 0) {
+                  throw new IllegalStateException();
+              }
+              return i;
+          }, executor, 4))
+          .join();
+
+        assertThat(calls.sum()).isEqualTo(100);
+        assertThat(outcomes).hasSize(100).allSatisfy(outcome -> assertThat(outcome).isDone());
+        assertThat(outcomes.stream().filter(CompletableFuture::isCompletedExceptionally)).hasSize(50);
+        assertThat(outcomes.stream().filter(outcome -> !outcome.isCompletedExceptionally()).map(CompletableFuture::join))
+          .containsExactlyElementsOf(IntStream.range(0, 100).filter(i -> i % 2 == 1).boxed().collect(toList()));
+    }
+
+    @Test
+    void shouldCollectOutcomesOfEmptyStream() {
+        assertThat(Stream.<Integer>empty().collect(parallelOutcomes(i -> i, executor, 4)).join()).isEmpty();
+        assertThat(Stream.<Integer>empty().collect(Batching.parallelOutcomes(i -> i, executor, 4)).join()).isEmpty();
+    }
+
+    @Test
+    void shouldRetryBeforeReportingOutcome() {
+        Set<Integer> failed = ConcurrentHashMap.newKeySet();
+
+        List<CompletableFuture<Integer>> outcomes = IntStream.range(0, 10).boxed()
+          .collect(parallelOutcomes(i -> {
+              if (failed.add(i)) {
+                  throw new IllegalStateException();
+              }
+              return i;
+          }, retrying(executor, 2, ofMillis(5), ofMillis(5)), 4))
+          .join();
+
+        assertThat(outcomes.stream().map(CompletableFuture::join)).containsExactlyElementsOf(IntStream.range(0, 10).boxed().collect(toList()));
+    }
+
+    @Test
+    void shouldAggregateAllFailures() {
+        assertThatThrownBy(IntStream.range(0, 10).boxed()
+          .collect(parallelCollectingAllErrors(i -> {
+              if (i % 4 == 0) {
+                  throw new IllegalStateException(String.valueOf(i));
+              }
+              return i;
+          }, toList(), executor, 4))::join)
+          .isExactlyInstanceOf(CompletionException.class)
+          .hasMessage("3 of 10 tasks failed")
+          .hasCauseExactlyInstanceOf(IllegalStateException.class)
+          .satisfies(e -> {
+              assertThat(e.getCause()).hasMessage("0");
+              assertThat(e.getSuppressed()).extracting(Throwable::getMessage).containsExactly("4", "8");
+          });
+    }
+
+    @Test
+    void shouldCollectAllResultsWhenNothingFails() {
+        List<Integer> result = IntStream.range(0, 100).boxed()
+          .collect(parallelCollectingAllErrors(i -> i, toList(), executor, 4))
+          .join();
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 100).boxed().collect(toList()));
+    }
+
+    @Test
+    void shouldNotRecomputeSuccessfulElementsOfFailedBatch() {
+        LongAdder calls = new LongAdder();
+
+        List<CompletableFuture<Integer>> outcomes = IntStream.range(0, 100).boxed()
+          .collect(Batching.parallelOutcomes(i -> {
+              calls.increment();
+              if (i % 10 == 0) {
+                  throw new IllegalStateException();
+              }
+              return i;
+          }, executor, 4))
+          .join();
+
+        assertThat(calls.sum()).isEqualTo(100);
+        assertThat(outcomes).hasSize(100);
+        assertThat(outcomes.stream().filter(CompletableFuture::isCompletedExceptionally)).hasSize(10);
+        assertThat(outcomes.get(1).join()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAccumulateDownstreamOnWorkerThreads() {
+        Set<String> accumulatingThreads = ConcurrentHashMap.newKeySet();
+        Collector<Integer, List<Integer>, List<Integer>> recordingToList = Collector.of(
+          ArrayList::new,
+          (list, i) -> {
+              accumulatingThreads.add(Thread.currentThread().getName());
+              list.add(i);
+          },
+          (left, right) -> {
+              left.addAll(right);
+              return left;
+          });
+
+        List<Integer> result = IntStream.range(0, 100).boxed()
+          .collect(Batching.parallelCombining(i -> i, recordingToList, executor, 4))
+          .join();
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 100).boxed().collect(toList()));
+        assertThat(accumulatingThreads).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldCollectToEmptyPrimitiveStream() {
+        assertThat(Stream.<Integer>empty().collect(Batching.parallelToIntStream(i -> i, executor, 4)).join().toArray()).isEmpty();
+    }
+
+    @Test
+    void shouldPropagateExceptionFromPrimitiveCollector() {
+        assertThatThrownBy(() -> IntStream.range(0, 10).boxed()
+          .collect(Batching.parallelToIntStream(i -> {
+              if (i == 7) {
+                  throw new IllegalArgumentException();
+              }
+              return i;
+          }, executor, 4))
+          .join())
+          .isInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldProcessFixedSizeBatches() {
+        CountingExecutor countingExecutor = new CountingExecutor(executor);
+
+        List<Integer> result = IntStream.range(0, 95).boxed()
+          .collect(Batching.parallel(i -> i, toList(), countingExecutor, 4, 10))
+          .join();
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 95).boxed().collect(toList()));
+        assertThat(countingExecutor.getInvocations()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldFailAdaptiveBatchingOnceWorkerGetsInterrupted() {
+        Thread.currentThread().interrupt();
+        try {
+            CompletableFuture<List<Integer>> result = IntStream.range(0, 10).boxed()
+              .collect(Batching.parallelAdaptive(i -> i * 2, toList(), directDispatching(Runnable::run), 2));
+
+            assertThatThrownBy(result::join)
+              .isExactlyInstanceOf(CompletionException.class)
+              .hasCauseExactlyInstanceOf(CancellationException.class);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void shouldRebalanceSkewedWorkloadAdaptively() {
+        Map<String, Integer> processedPerThread = new ConcurrentHashMap<>();
+        AtomicReference<String> slowThread = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            List<Integer> result = IntStream.range(0, 100).boxed()
+              .collect(Batching.parallelAdaptive(i -> {
+                  processedPerThread.merge(Thread.currentThread().getName(), 1, Integer::sum);
+                  if (i == 0) {
+                      slowThread.set(Thread.currentThread().getName());
+                      return returnWithDelay(i, ofMillis(300));
+                  }
+                  return i;
+              }, toList(), executor, 2))
+              .join();
+
+            assertThat(result).containsExactlyElementsOf(IntStream.range(0, 100).boxed().collect(toList()));
+            assertThat(processedPerThread.get(slowThread.get())).isLessThanOrEqualTo(25);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> Batching.parallel(i -> i, toList(), executor, 2, 0, ofMillis(50)))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Batching.parallel(i -> i, toList(), executor, 2, 10, Duration.ZERO))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Duration timed(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static boolean awaitLatch(CountDownLatch latch) {
+        try {
+            return latch.await(5, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     @Test
     void shouldExecuteEagerlyOnProvidedThreadPool() {
         ExecutorService executor = Executors.newFixedThreadPool(2);
@@ -304,9 +1420,11 @@ class FunctionalTest {
                 innerDispatcherField.setAccessible(true);
                 ExecutorService executor = (ExecutorService) innerDispatcherField.get(dispatcher);
 
-                await()
-                  .atMost(Duration.ofSeconds(2))
-                  .until(executor::isTerminated);
+                if (executor != null) {
+                    await()
+                      .atMost(Duration.ofSeconds(2))
+                      .until(executor::isTerminated);
+                }
             }
         });
     }
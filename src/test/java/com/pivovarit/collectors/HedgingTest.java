@@ -0,0 +1,70 @@
+package com.pivovarit.collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Semaphore;
+
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgingTest {
+
+    @Test
+    void shouldUseFixedDelay() {
+        Hedging hedging = new Hedging(new Semaphore(1), ofMillis(100));
+
+        hedging.onSample(MILLISECONDS.toNanos(1));
+
+        assertThat(hedging.delayNanos()).isEqualTo(MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void shouldNotHedgeBeforeEnoughSamplesAreObserved() {
+        Hedging hedging = new Hedging(new Semaphore(1), null);
+
+        for (int i = 0; i < 15; i++) {
+            hedging.onSample(MILLISECONDS.toNanos(1));
+        }
+
+        assertThat(hedging.delayNanos()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldEstimateDelayOnceEnoughSamplesAreObserved() {
+        Hedging hedging = new Hedging(new Semaphore(1), null);
+
+        for (int i = 0; i < 20; i++) {
+            hedging.onSample(MILLISECONDS.toNanos(1));
+        }
+
+        assertThat(hedging.delayNanos()).isEqualTo(MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    void shouldEstimateDelayFromRecentLatencies() {
+        Hedging hedging = new Hedging(new Semaphore(1), null);
+
+        for (int i = 1; i <= 100; i++) {
+            hedging.onSample(MILLISECONDS.toNanos(i));
+        }
+        assertThat(hedging.delayNanos()).isBetween(MILLISECONDS.toNanos(90), MILLISECONDS.toNanos(96));
+
+        // older samples fall out of the window
+        for (int i = 0; i < 128; i++) {
+            hedging.onSample(MILLISECONDS.toNanos(1));
+        }
+        assertThat(hedging.delayNanos()).isEqualTo(MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    void shouldBoundHedgesByBudget() {
+        Hedging hedging = new Hedging(new Semaphore(1), ofMillis(100));
+
+        assertThat(hedging.tryAcquire()).isTrue();
+        assertThat(hedging.tryAcquire()).isFalse();
+
+        hedging.release();
+        assertThat(hedging.tryAcquire()).isTrue();
+    }
+}
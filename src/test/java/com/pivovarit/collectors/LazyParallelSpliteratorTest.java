@@ -0,0 +1,200 @@
+package com.pivovarit.collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.pivovarit.collectors.ParallelCollectors.parallelMap;
+import static com.pivovarit.collectors.ParallelCollectors.parallelMapOrdered;
+import static com.pivovarit.collectors.ParallelCollectors.retrying;
+import static com.pivovarit.collectors.TestUtils.returnWithDelay;
+import static java.time.Duration.ofMillis;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class LazyParallelSpliteratorTest {
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(10);
+
+    @AfterAll
+    static void cleanup() {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldMaintainOrder() {
+        List<Integer> result = parallelMapOrdered(Stream.of(300, 200, 0, 100), i -> returnWithDelay(i, ofMillis(i)), executor, 4)
+          .collect(toList());
+
+        assertThat(result).containsExactly(300, 200, 0, 100);
+    }
+
+    @Test
+    void shouldReturnResultsInCompletionOrder() {
+        List<Integer> result = parallelMap(Stream.of(300, 200, 0, 100), i -> returnWithDelay(i, ofMillis(i)), executor, 4)
+          .collect(toList());
+
+        assertThat(result).containsExactly(0, 100, 200, 300);
+    }
+
+    @Test
+    void shouldCollectToEmpty() {
+        assertThat(parallelMap(Stream.<Integer>empty(), i -> i, executor, 4).collect(toList())).isEmpty();
+        assertThat(parallelMapOrdered(Stream.<Integer>empty(), i -> i, executor, 4).collect(toList())).isEmpty();
+    }
+
+    @Test
+    void shouldProcessOnlyRequestedElements() {
+        int parallelism = 4;
+        AtomicInteger processed = new AtomicInteger();
+
+        List<Integer> result = parallelMapOrdered(Stream.iterate(0, i -> i + 1), i -> {
+            processed.incrementAndGet();
+            return i;
+        }, executor, parallelism)
+          .limit(10)
+          .collect(toList());
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 10).boxed().collect(toList()));
+        assertThat(processed.get()).isLessThanOrEqualTo(10 + parallelism);
+    }
+
+    @Test
+    void shouldNotRetainConsumedResults() {
+        int parallelism = 4;
+        List<WeakReference<Object>> produced = new CopyOnWriteArrayList<>();
+        AtomicInteger consumed = new AtomicInteger();
+
+        parallelMap(IntStream.range(0, 1000).boxed(), i -> {
+            Object result = new byte[1024];
+            produced.add(new WeakReference<>(result));
+            return result;
+        }, executor, parallelism)
+          .forEach(result -> {
+              // besides the result being handed over, only results of tasks in flight can still be reachable
+              if (consumed.incrementAndGet() % 100 == 0) {
+                  await().untilAsserted(() -> {
+                      System.gc();
+                      assertThat(produced.stream().filter(ref -> ref.get() != null).count()).isLessThanOrEqualTo(parallelism + 1);
+                  });
+              }
+          });
+
+        assertThat(produced).hasSize(1000);
+    }
+
+    @Test
+    void shouldNotPullSourceBeforeResultsAreRequested() {
+        AtomicInteger pulled = new AtomicInteger();
+
+        Stream<Integer> result = parallelMap(IntStream.range(0, 100).boxed().peek(i -> pulled.incrementAndGet()), i -> i, executor, 4);
+
+        assertThat(pulled.get()).isZero();
+        assertThat(result.findFirst()).isPresent();
+        assertThat(pulled.get()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void shouldPropagateException() {
+        assertThatThrownBy(() -> parallelMapOrdered(Stream.of(1, 2, 3), i -> {
+            if (i == 2) {
+                throw new IllegalArgumentException();
+            }
+            return i;
+        }, executor, 2).collect(toList()))
+          .isExactlyInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRetryFailedTasks() {
+        Set<Integer> failed = ConcurrentHashMap.newKeySet();
+
+        List<Integer> result = parallelMapOrdered(IntStream.range(0, 20).boxed(), i -> {
+            if (failed.add(i)) {
+                throw new IllegalStateException();
+            }
+            return i;
+        }, retrying(executor, 2, ofMillis(5), ofMillis(5)), 4)
+          .collect(toList());
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 20).boxed().collect(toList()));
+        assertThat(failed).hasSize(20);
+    }
+
+    @Test
+    void shouldInterruptTasksInFlightAfterFailure() {
+        LongAdder calls = new LongAdder();
+        LongAdder interrupted = new LongAdder();
+
+        assertThatThrownBy(() -> parallelMapOrdered(IntStream.range(0, 100).boxed(), i -> {
+            calls.increment();
+            if (i == 0) {
+                throw new IllegalArgumentException();
+            }
+            return sleepInterruptibly(i, interrupted);
+        }, executor, 4).collect(toList()))
+          .isExactlyInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(IllegalArgumentException.class);
+
+        await().untilAsserted(() -> assertThat(interrupted.sum()).isEqualTo(calls.sum() - 1));
+        assertThat(calls.sum()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void shouldInterruptTasksInFlightOnClose() {
+        LongAdder calls = new LongAdder();
+        LongAdder interrupted = new LongAdder();
+
+        try (Stream<Integer> result = parallelMap(IntStream.range(0, 100).boxed(), i -> {
+            calls.increment();
+            return i == 0 ? i : sleepInterruptibly(i, interrupted);
+        }, executor, 4)) {
+            assertThat(result.iterator().next()).isZero();
+        }
+
+        await().untilAsserted(() -> assertThat(interrupted.sum()).isEqualTo(calls.sum() - 1));
+        assertThat(calls.sum()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void shouldCloseSource() {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        try (Stream<Integer> result = parallelMap(Stream.of(1, 2, 3).onClose(() -> closed.set(true)), i -> i, executor, 2)) {
+            assertThat(result.count()).isEqualTo(3);
+        }
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldRejectInvalidParallelism() {
+        assertThatThrownBy(() -> parallelMap(Stream.of(1), i -> i, executor, 0))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Integer sleepInterruptibly(Integer value, LongAdder interrupted) {
+        try {
+            Thread.sleep(10_000);
+        } catch (InterruptedException e) {
+            interrupted.increment();
+        }
+        return value;
+    }
+}
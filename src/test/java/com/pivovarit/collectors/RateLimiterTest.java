@@ -0,0 +1,53 @@
+package com.pivovarit.collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldAllowBurstAndThenSpaceTokensEvenly() {
+        RateLimiter limiter = new RateLimiter(10, 3, clock::get);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(MILLISECONDS.toNanos(100));
+        assertThat(limiter.reserve()).isEqualTo(MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    void shouldRefillAtConstantRate() {
+        RateLimiter limiter = new RateLimiter(10, 1, clock::get);
+
+        assertThat(limiter.reserve()).isZero();
+        clock.addAndGet(MILLISECONDS.toNanos(40));
+        assertThat(limiter.reserve()).isEqualTo(MILLISECONDS.toNanos(60));
+    }
+
+    @Test
+    void shouldNotAccumulateMoreThanBurst() {
+        RateLimiter limiter = new RateLimiter(10, 2, clock::get);
+
+        clock.addAndGet(MILLISECONDS.toNanos(10_000));
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new RateLimiter(0, 1))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimiter(1, 0))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
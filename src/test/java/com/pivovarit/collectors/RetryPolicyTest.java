@@ -0,0 +1,50 @@
+package com.pivovarit.collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTest {
+
+    @Test
+    void shouldRetryUntilMaxAttempts() {
+        RetryPolicy policy = new RetryPolicy(3, ofMillis(10), ofMillis(100), e -> true);
+
+        assertThat(policy.shouldRetry(new IllegalStateException(), 1)).isTrue();
+        assertThat(policy.shouldRetry(new IllegalStateException(), 2)).isTrue();
+        assertThat(policy.shouldRetry(new IllegalStateException(), 3)).isFalse();
+    }
+
+    @Test
+    void shouldRetryMatchingExceptionsOnly() {
+        RetryPolicy policy = new RetryPolicy(3, ofMillis(10), ofMillis(100), e -> e instanceof IllegalStateException);
+
+        assertThat(policy.shouldRetry(new IllegalStateException(), 1)).isTrue();
+        assertThat(policy.shouldRetry(new IllegalArgumentException(), 1)).isFalse();
+    }
+
+    @Test
+    void shouldBackOffExponentiallyWithJitter() {
+        RetryPolicy policy = new RetryPolicy(10, ofMillis(10), ofMillis(100), e -> true);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoffNanos(1)).isBetween(MILLISECONDS.toNanos(5), MILLISECONDS.toNanos(10));
+            assertThat(policy.backoffNanos(3)).isBetween(MILLISECONDS.toNanos(20), MILLISECONDS.toNanos(40));
+            assertThat(policy.backoffNanos(5)).isBetween(MILLISECONDS.toNanos(50), MILLISECONDS.toNanos(100));
+            assertThat(policy.backoffNanos(Integer.MAX_VALUE)).isBetween(MILLISECONDS.toNanos(50), MILLISECONDS.toNanos(100));
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidPolicy() {
+        assertThatThrownBy(() -> new RetryPolicy(0, ofMillis(10), ofMillis(100), e -> true))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(3, ofMillis(0), ofMillis(100), e -> true))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(3, ofMillis(10), ofMillis(5), e -> true))
+          .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
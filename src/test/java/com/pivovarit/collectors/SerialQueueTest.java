@@ -0,0 +1,41 @@
+package com.pivovarit.collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SerialQueueTest {
+
+    @Test
+    void shouldProcessElementsInSubmissionOrder() {
+        SerialQueue<Integer> queue = new SerialQueue<>();
+        List<Integer> processed = new ArrayList<>();
+
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isFalse();
+        queue.drain(processed::add);
+
+        assertThat(processed).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldBecomeIdleOnceActionThrows() {
+        SerialQueue<Integer> queue = new SerialQueue<>();
+        List<Integer> processed = new ArrayList<>();
+
+        queue.offer(1);
+        queue.offer(2);
+        assertThatThrownBy(() -> queue.drain(e -> {
+            throw new IllegalStateException();
+        })).isExactlyInstanceOf(IllegalStateException.class);
+
+        assertThat(queue.offer(3)).isTrue();
+        queue.drain(processed::add);
+
+        assertThat(processed).containsExactly(2, 3);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pivovarit.collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SubmissionOrderSpliteratorTest {
+
+    @Test
+    void shouldTraverseInSubmissionOrder() {
+        CompletableFuture<Integer> f1 = new CompletableFuture<>();
+        CompletableFuture<Integer> f2 = CompletableFuture.completedFuture(2);
+        CompletableFuture<Integer> f3 = CompletableFuture.completedFuture(3);
+
+        CompletableFuture.runAsync(() -> f1.complete(1));
+
+        List<Integer> results = StreamSupport.stream(
+          new SubmissionOrderSpliterator<>(Stream.of(f1, f2, f3), __ -> {}), false)
+          .collect(Collectors.toList());
+
+        assertThat(results).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldHandOverConsecutiveCompletedResultsAtOnce() {
+        List<Integer> consumed = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = asList(
+          CompletableFuture.completedFuture(1),
+          CompletableFuture.completedFuture(2),
+          CompletableFuture.completedFuture(3));
+
+        List<Integer> results = StreamSupport.stream(
+          new SubmissionOrderSpliterator<>(futures.stream(), consumed::add), false)
+          .collect(Collectors.toList());
+
+        assertThat(results).containsExactly(1, 2, 3);
+        assertThat(consumed).containsExactly(3);
+    }
+
+    @Test
+    void shouldPropagateException() {
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+
+        assertThatThrownBy(() -> StreamSupport.stream(
+          new SubmissionOrderSpliterator<>(Stream.of(CompletableFuture.completedFuture(1), failed), __ -> {}), false)
+          .collect(Collectors.toList()))
+          .isInstanceOf(CompletionException.class)
+          .hasCauseExactlyInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.pivovarit.collectors.benchmark;
+
+import com.pivovarit.collectors.ParallelCollectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.summingInt;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Measures per-element allocations of parallel collectors - run with {@link GCProfiler} and look at {@code gc.alloc.rate.norm}
+ */
+public class AllocationBench {
+
+    private static final int SIZE = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({"10", "100"})
+        public int parallelism;
+
+        private volatile ExecutorService executor;
+        private volatile Executor sameThreadExecutor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            executor = Executors.newFixedThreadPool(100);
+            sameThreadExecutor = ParallelCollectors.directDispatching(Runnable::run);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            executor.shutdown();
+        }
+    }
+
+    private static final List<Integer> source = IntStream.range(0, SIZE)
+      .boxed()
+      .collect(toList());
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Integer> parallel_collect(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallel(i -> i, toList(), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Integer> parallel_collect_same_thread(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallel(i -> i, toList(), state.sameThreadExecutor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Integer parallel_collect_summing(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallel(i -> i, summingInt(i -> i), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Integer parallel_folding_summing(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallelFolding(i -> i, summingInt(i -> i), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Integer> parallel_streaming(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallelToStream(i -> i, state.executor, state.parallelism))
+          .collect(toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Integer> parallel_streaming_same_thread(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallelToStream(i -> i, state.sameThreadExecutor, state.parallelism))
+          .collect(toList());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+          new OptionsBuilder()
+            .include(AllocationBench.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .forks(1)
+            .build()).run();
+    }
+}
@@ -13,11 +13,18 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.IntStream;
 
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 public class Bench {
 
@@ -28,10 +35,12 @@ public class Bench {
         public int parallelism;
 
         private volatile ExecutorService executor;
+        private volatile Executor directExecutor;
 
         @Setup(Level.Trial)
         public void setup() {
             executor = Executors.newFixedThreadPool(1000);
+            directExecutor = ParallelCollectors.directDispatching(executor);
         }
 
         @TearDown(Level.Trial)
@@ -51,6 +60,34 @@ public class Bench {
           .join();
     }
 
+    @Benchmark
+    public List<Integer> parallel_collect_direct(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallel(i -> i, toList(), state.directExecutor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public List<Integer> parallel_collect_virtual(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallel(i -> i, toList(), state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public List<Integer> parallel_collect_io(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallel(Bench::io, toList(), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public List<Integer> parallel_collect_io_virtual(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallel(Bench::io, toList(), state.parallelism))
+          .join();
+    }
+
     @Benchmark
     public List<Integer> parallel_batch_collect(BenchmarkState state) {
         return source.stream()
@@ -58,6 +95,78 @@ public class Bench {
           .join();
     }
 
+    @Benchmark
+    public Map<Integer, Long> parallel_collect_grouping(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallel(i -> i, groupingBy(i -> i % 100, counting()), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> parallel_grouping_by(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallelGroupingBy(i -> i % 100, i -> i, counting(), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> parallel_batch_collect_grouping(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.Batching.parallel(i -> i, groupingBy(i -> i % 1000, counting()), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> parallel_batch_collect_grouping_combining(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.Batching.parallelCombining(i -> i, groupingBy(i -> i % 1000, counting()), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public List<Integer> parallel_batch_collect_to_list(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.Batching.parallelToList(i -> i, state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public int[] parallel_batch_collect_int(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.Batching.parallelToIntStream(i -> i, state.executor, state.parallelism))
+          .join()
+          .toArray();
+    }
+
+    @Benchmark
+    public double[] parallel_batch_collect_double(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.Batching.parallelToDoubleStream(i -> i * 0.5, state.executor, state.parallelism))
+          .join()
+          .toArray();
+    }
+
+    @Benchmark
+    public List<Double> parallel_batch_collect_boxed_double(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.Batching.parallel(i -> i * 0.5, toList(), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public List<Integer> parallel_batch_collect_skewed(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.Batching.parallel(Bench::skewed, toList(), state.executor, state.parallelism))
+          .join();
+    }
+
+    @Benchmark
+    public List<Integer> parallel_adaptive_batch_collect_skewed(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.Batching.parallelAdaptive(Bench::skewed, toList(), state.executor, state.parallelism))
+          .join();
+    }
+
     @Benchmark
     public List<Integer> parallel_streaming(BenchmarkState state) {
         return source.stream()
@@ -65,6 +174,20 @@ public class Bench {
           .collect(toList());
     }
 
+    @Benchmark
+    public List<Integer> parallel_streaming_direct(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallelToStream(i -> i, state.directExecutor, state.parallelism))
+          .collect(toList());
+    }
+
+    @Benchmark
+    public List<Integer> parallel_streaming_virtual(BenchmarkState state) {
+        return source.stream()
+          .collect(ParallelCollectors.parallelToStream(i -> i, state.parallelism))
+          .collect(toList());
+    }
+
     @Benchmark
     public List<Integer> parallel_batch_streaming_collect(BenchmarkState state) {
         return source.stream()
@@ -72,6 +195,38 @@ public class Bench {
           .collect(toList());
     }
 
+    private static final Set<Integer> slow = new Random(42).ints(0, source.size())
+      .distinct()
+      .limit(source.size() / 100)
+      .boxed()
+      .collect(toSet());
+
+    /**
+     * 1% of elements (at random positions) block for 5ms, the rest return immediately
+     */
+    private static Integer skewed(Integer i) {
+        if (slow.contains(i)) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Simulates a blocking IO call
+     */
+    private static Integer io(Integer i) {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return i;
+    }
+
     public static void main(String[] args) throws RunnerException {
         new Runner(
           new OptionsBuilder()